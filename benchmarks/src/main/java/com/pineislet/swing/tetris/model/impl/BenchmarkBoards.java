@@ -0,0 +1,86 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Tile;
+import com.pineislet.swing.tetris.model.TileShape;
+
+import java.util.SplittableRandom;
+
+/**
+ * 基准测试用棋盘构造工具
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+final class BenchmarkBoards {
+
+    private BenchmarkBoards() {
+    }
+
+    /**
+     *  构造底部若干行随机填充的棋盘（每行至少留一个空格，不产生满行）
+     *
+     *  @param seed 随机种子
+     *  @param height 填充行数
+     * */
+    static GameBoard garbage(long seed, int height) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameBoard board = new GameBoard();
+        Tile tile = Tile.O;
+        TileShape shape = tile.getShape(Direction.NORTH);
+        // 以 O 型砖块自底向上随机堆叠
+        for (int n = 0; n < height * GameBoard.COLUMNS / 4; n++) {
+            int x = random.nextInt(GameBoard.COLUMNS - 1) - shape.getMinColumn();
+            int y = -shape.getMinRow();
+            while (!board.hasConflict(tile, Direction.NORTH, x, y + 1)) {
+                y++;
+            }
+            if (y + shape.getMinRow() >= GameBoard.ROWS - height) {
+                board.lockTile(tile, Direction.NORTH, x, y);
+                board.clearLines();
+            }
+        }
+        return board;
+    }
+
+    /**
+     *  构造底部恰有 lines 个满行的棋盘
+     *  在底部四行以竖直 I 型砖块填满前九列，第十列的竖直 I 型砖块向上错开 4 - lines 行
+     *
+     *  @param lines 满行数（0——4）
+     * */
+    static GameBoard fullLines(int lines) {
+        GameBoard board = new GameBoard();
+        for (int column = 0; column < GameBoard.COLUMNS - 1; column++) {
+            dropVertical(board, column, GameBoard.ROWS - 1);
+        }
+        dropVertical(board, GameBoard.COLUMNS - 1, GameBoard.ROWS - 1 - (4 - lines));
+        return board;
+    }
+
+    /**
+     *  在指定列放置竖直 I 型砖块
+     *
+     *  @param column 列号
+     *  @param bottomRow 砖块最低格所在行号
+     * */
+    static void dropVertical(GameBoard board, int column, int bottomRow) {
+        Direction direction = verticalDirection();
+        TileShape shape = Tile.I.getShape(direction);
+        board.lockTile(Tile.I, direction, column - shape.getMinColumn(), bottomRow - shape.getMaxRow());
+    }
+
+    /**
+     *  获取 I 型砖块竖直时的方向
+     * */
+    static Direction verticalDirection() {
+        for (int i = 0; i < 4; i++) {
+            TileShape shape = Tile.I.getShape(Direction.getDirection(i));
+            if (shape.getMinColumn() == shape.getMaxColumn()) {
+                return Direction.getDirection(i);
+            }
+        }
+        throw new IllegalStateException("no vertical direction for I");
+    }
+}
@@ -0,0 +1,67 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Randomizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 完整游戏基准测试
+ * 固定种子的无界面模型由脚本机器人进行一局游戏，附加计数器 placements 即每秒放置砖块数
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+
+    /**
+     *  单局放置上限
+     * */
+    private static final int MAX_PLACEMENTS = 1000;
+
+    @Param({"BAG", "CLASSIC", "HISTORY"})
+    public Randomizer.Type randomizerType;
+
+    @Param({"42"})
+    public long seed;
+
+    private TetrisModelImpl model;
+    private ScriptedBot bot;
+
+    /**
+     *  附加计数器（每次迭代累计）
+     * */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long placements;
+        public long lines;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            placements = 0;
+            lines = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        model = new TetrisModelImpl(true, Randomizers.create(randomizerType, seed));
+        bot = new ScriptedBot();
+    }
+
+    @Benchmark
+    public int game(Counters counters) {
+        bot.play(model, MAX_PLACEMENTS);
+        counters.placements += bot.getPlacements();
+        counters.lines += bot.getLines();
+        return model.getScore();
+    }
+}
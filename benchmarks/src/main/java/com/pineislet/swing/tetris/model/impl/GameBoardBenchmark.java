@@ -0,0 +1,109 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Tile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 位棋盘基准测试：冲突判定与消行
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBoardBenchmark {
+
+    /**
+     *  每次调用判定的位置数
+     * */
+    private static final int QUERIES = 1024;
+
+    private GameBoard garbage;
+
+    /**
+     *  随机判定位置（覆盖越界、冲突与无冲突各种情况）
+     * */
+    private Tile[] tiles;
+    private Direction[] directions;
+    private int[] xs;
+    private int[] ys;
+
+    /**
+     *  消行测试状态
+     * */
+    @State(Scope.Thread)
+    public static class ClearLinesState {
+
+        /**
+         *  消除行数
+         * */
+        @Param({"0", "1", "2", "3", "4"})
+        public int lines;
+
+        private GameBoard board;
+        private GameBoard template;
+
+        @Setup
+        public void setup() {
+            board = new GameBoard();
+            template = BenchmarkBoards.fullLines(lines);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        garbage = BenchmarkBoards.garbage(42, 10);
+
+        SplittableRandom random = new SplittableRandom(42);
+        Tile[] values = Tile.values();
+        tiles = new Tile[QUERIES];
+        directions = new Direction[QUERIES];
+        xs = new int[QUERIES];
+        ys = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            tiles[i] = values[random.nextInt(values.length)];
+            directions[i] = Direction.getDirection(random.nextInt(4));
+            xs[i] = random.nextInt(-3, GameBoard.COLUMNS + 1);
+            ys[i] = random.nextInt(-2, GameBoard.ROWS);
+        }
+    }
+
+    /**
+     *  冲突判定（每次调用判定 QUERIES 个位置）
+     * */
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void hasConflict(Blackhole blackhole) {
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(garbage.hasConflict(tiles[i], directions[i], xs[i], ys[i]));
+        }
+    }
+
+    /**
+     *  复制棋盘（clearLines 的基准线）
+     * */
+    @Benchmark
+    public GameBoard copyFrom(ClearLinesState state) {
+        state.board.copyFrom(state.template);
+        return state.board;
+    }
+
+    /**
+     *  复制棋盘后消除 lines 行（减去 copyFrom 即消行耗时）
+     * */
+    @Benchmark
+    public int clearLines(ClearLinesState state) {
+        state.board.copyFrom(state.template);
+        return state.board.clearLines();
+    }
+}
@@ -0,0 +1,148 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 脚本机器人
+ * 对当前砖块枚举所有方向与列的直落位置，按高度、空洞、起伏与消行数评估后选择最优位置，
+ * 再通过模型的公开操作（旋转、移动、直落）执行；评估过程不分配内存
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+class ScriptedBot {
+
+    /**
+     *  评估权重
+     * */
+    private static final double HEIGHT_WEIGHT = -0.51;
+    private static final double LINES_WEIGHT = 0.76;
+    private static final double HOLES_WEIGHT = -0.36;
+    private static final double BUMPINESS_WEIGHT = -0.18;
+
+    private final GameState state = new GameState();
+    private final GameBoard scratch = new GameBoard();
+
+    /**
+     *  本局已放置砖块数与消除行数
+     * */
+    private int placements;
+    private int lines;
+
+    /**
+     *  进行一局游戏（从准备状态开始，直至游戏结束或达到放置上限）
+     *
+     *  @param model 无界面模型
+     *  @param maxPlacements 放置上限
+     * */
+    void play(TetrisModelImpl model, int maxPlacements) {
+        model.changeGameStatus(TetrisModel.GameStatus.PREPARE);
+        model.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+        placements = 0;
+        while (model.getGameStatus() == TetrisModel.GameStatus.PLAYING && placements < maxPlacements) {
+            place(model);
+            placements++;
+        }
+        lines = model.getLines();
+    }
+
+    int getPlacements() {
+        return placements;
+    }
+
+    int getLines() {
+        return lines;
+    }
+
+    /**
+     *  放置当前砖块
+     * */
+    private void place(TetrisModelImpl model) {
+        model.saveState(state);
+        Tile tile = state.currentTile;
+
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestRotation = 0;
+        int bestX = state.x;
+        for (int rotation = 0; rotation < 4; rotation++) {
+            Direction direction = Direction.getDirection((state.direction.getNumber() + rotation) % 4);
+            for (int x = -3; x < GameBoard.COLUMNS; x++) {
+                if (state.gameBoard.hasConflict(tile, direction, x, state.y)) {
+                    continue;
+                }
+                int y = state.y;
+                while (!state.gameBoard.hasConflict(tile, direction, x, y + 1)) {
+                    y++;
+                }
+                scratch.copyFrom(state.gameBoard);
+                scratch.lockTile(tile, direction, x, y);
+                double score = evaluate(scratch.clearLines());
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestRotation = rotation;
+                    bestX = x;
+                }
+            }
+        }
+
+        // 执行（旋转时的位置调整可能使实际落点略有偏差，不影响确定性）
+        for (int i = 0; i < bestRotation; i++) {
+            model.spinPos();
+        }
+        for (int x = state.x; x > bestX; x--) {
+            model.moveLeft();
+        }
+        for (int x = state.x; x < bestX; x++) {
+            model.moveRight();
+        }
+        model.hardDown();
+    }
+
+    /**
+     *  评估 scratch 棋盘
+     * */
+    private double evaluate(int clearedLines) {
+        int aggregateHeight = 0;
+        int bumpiness = 0;
+        int holes = 0;
+        int covered = 0;
+        int lastHeight = -1;
+        // 自上而下扫描：covered 为已出现方块的列，其下方的空格即为空洞
+        for (int row = 0; row < GameBoard.ROWS; row++) {
+            int mask = scratch.getRowMask(row);
+            holes += Integer.bitCount(covered & ~mask);
+            int appeared = mask & ~covered;
+            while (appeared != 0) {
+                aggregateHeight += GameBoard.ROWS - row;
+                appeared &= appeared - 1;
+            }
+            covered |= mask;
+        }
+        // 相邻列高度差
+        for (int column = 0; column < GameBoard.COLUMNS; column++) {
+            int height = columnHeight(column);
+            if (lastHeight >= 0) {
+                bumpiness += Math.abs(height - lastHeight);
+            }
+            lastHeight = height;
+        }
+        return HEIGHT_WEIGHT * aggregateHeight + LINES_WEIGHT * clearedLines
+                + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+
+    /**
+     *  获取 scratch 棋盘指定列的高度
+     * */
+    private int columnHeight(int column) {
+        int bit = 1 << column;
+        for (int row = 0; row < GameBoard.ROWS; row++) {
+            if ((scratch.getRowMask(row) & bit) != 0) {
+                return GameBoard.ROWS - row;
+            }
+        }
+        return 0;
+    }
+}
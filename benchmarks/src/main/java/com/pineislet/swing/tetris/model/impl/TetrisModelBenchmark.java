@@ -0,0 +1,136 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Randomizer;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 游戏模型基准测试：旋转自适应、切换砖块与显示矩阵
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TetrisModelBenchmark {
+
+    private TetrisModelImpl model;
+    private int[] displayBuffer;
+
+    /**
+     *  hold区为空、尚未 hold 的存档（切换砖块基准每次调用前还原）
+     * */
+    private GameState spawnState;
+
+    /**
+     *  指定当前砖块的测试状态
+     * */
+    @State(Scope.Thread)
+    public static class TileState {
+
+        @Param({"I", "T", "L"})
+        public Tile tile;
+
+        private TetrisModelImpl model;
+
+        @Setup
+        public void setup() {
+            model = createModel(tile);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        model = createModel(Tile.T);
+        displayBuffer = new int[TetrisModel.GAME_HEIGHT * TetrisModel.GAME_WIDTH];
+        spawnState = new GameState();
+        model.saveState(spawnState);
+        spawnState.holdTile = null;
+        spawnState.holdCounter = 0;
+    }
+
+    /**
+     *  创建游戏中的无界面模型：底部堆积随机方块，当前砖块置于左侧墙壁处
+     * */
+    private static TetrisModelImpl createModel(Tile tile) {
+        TetrisModelImpl model = new TetrisModelImpl(true, Randomizers.create(Randomizer.Type.BAG, 42));
+        model.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+
+        GameState state = new GameState();
+        model.saveState(state);
+        state.gameBoard.copyFrom(BenchmarkBoards.garbage(42, 10));
+        state.currentTile = tile;
+        state.direction = Direction.NORTH;
+        state.x = -tile.getShape(Direction.NORTH).getMinColumn();
+        state.y = 4;
+        model.restoreState(state);
+        return model;
+    }
+
+    /**
+     *  靠墙旋转（旋转触发 adaptTile 调整位置，随后移回墙边）
+     * */
+    @Benchmark
+    public boolean spinAtWall(TileState state) {
+        boolean flag = state.model.spinPos();
+        flag &= state.model.spinNeg();
+        state.model.moveLeft();
+        state.model.moveLeft();
+        return flag;
+    }
+
+    /**
+     *  切换下一砖块（出队、补充随机砖块、出生位置冲突判定）
+     *  通过公开操作触发：还原 hold 区为空的存档后 hold，当前砖块进入 hold 区并切换下一砖块；
+     *  减去 restoreState 基准即为 hold 及切换砖块的开销
+     * */
+    @Benchmark
+    public long nextTile() {
+        model.restoreState(spawnState);
+        model.hold();
+        return model.getVersion();
+    }
+
+    /**
+     *  还原存档（nextTile 基准的基线）
+     * */
+    @Benchmark
+    public long restoreState() {
+        model.restoreState(spawnState);
+        return model.getVersion();
+    }
+
+    /**
+     *  获取显示矩阵（每次分配新矩阵）
+     * */
+    @Benchmark
+    public int[][] getGameDisplayMatrix() {
+        return model.getGameDisplayMatrix();
+    }
+
+    /**
+     *  填充显示缓冲区（不分配内存）
+     * */
+    @Benchmark
+    public int[] fillGameDisplay() {
+        model.fillGameDisplay(displayBuffer, -1);
+        return displayBuffer;
+    }
+
+    /**
+     *  获取砖块矩阵副本
+     * */
+    @Benchmark
+    public int[][] getTileMatrix(TileState state) {
+        return state.tile.getTileMatrix(Direction.EAST);
+    }
+}
@@ -0,0 +1,146 @@
+package com.pineislet.swing.tetris.model;
+
+/**
+ * 游戏状态快照（可重复使用）
+ * 游戏线程在状态改变后整体写入并发布，读取方（渲染、观战、统计）通过 TetrisModel.readSnapshot 复制到自己持有的快照中，
+ * 无需获取模型的锁，读到的显示矩阵、砖块队列、得分等总是同一时刻的状态；显示矩阵及后续砖块数组在创建时分配，之后不再分配内存
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public final class GameSnapshot {
+
+    /**
+     *  状态版本号（尚未写入时为 -1）
+     * */
+    private long version = -1;
+
+    /**
+     *  游戏状态
+     * */
+    private TetrisModel.GameStatus gameStatus;
+
+    /**
+     *  显示矩阵（按行，含当前砖块及投影，与 TetrisModel.fillGameDisplay 相同）
+     * */
+    private final int[] cells = new int[TetrisModel.GAME_HEIGHT * TetrisModel.GAME_WIDTH];
+
+    /**
+     *  当前砖块、方向及左上角位置（当前砖块为空时方向及位置无意义）
+     * */
+    private Tile currentTile;
+    private Direction direction;
+    private int x;
+    private int y;
+
+    /**
+     *  后续砖块及其数目（准备状态时为 0）、hold区砖块
+     * */
+    private final Tile[] followingTiles = new Tile[TetrisModel.FOLLOW_TILE_COUNTS];
+    private int followingCounts;
+    private Tile holdTile;
+
+    /**
+     *  得分、已消除行数及已锁定砖块数
+     * */
+    private int score;
+    private int lines;
+    private int tileCounts;
+
+    /**
+     *  写入快照（数组内容被复制，调用方可继续使用）
+     *
+     *  @param cells 显示矩阵（长度不小于 GAME_WIDTH * GAME_HEIGHT）
+     *  @param followingTiles 后续砖块（前 followingCounts 个有效）
+     *  @param followingCounts 后续砖块数目（不大于 FOLLOW_TILE_COUNTS）
+     * */
+    public void set(long version, TetrisModel.GameStatus gameStatus, int[] cells,
+                    Tile currentTile, Direction direction, int x, int y,
+                    Tile[] followingTiles, int followingCounts, Tile holdTile, int score, int lines, int tileCounts) {
+        this.version = version;
+        this.gameStatus = gameStatus;
+        System.arraycopy(cells, 0, this.cells, 0, this.cells.length);
+        this.currentTile = currentTile;
+        this.direction = direction;
+        this.x = x;
+        this.y = y;
+        System.arraycopy(followingTiles, 0, this.followingTiles, 0, followingCounts);
+        this.followingCounts = followingCounts;
+        this.holdTile = holdTile;
+        this.score = score;
+        this.lines = lines;
+        this.tileCounts = tileCounts;
+    }
+
+    /**
+     *  复制另一快照的全部内容
+     * */
+    public void copyFrom(GameSnapshot snapshot) {
+        set(snapshot.version, snapshot.gameStatus, snapshot.cells, snapshot.currentTile, snapshot.direction, snapshot.x, snapshot.y,
+                snapshot.followingTiles, snapshot.followingCounts, snapshot.holdTile, snapshot.score, snapshot.lines, snapshot.tileCounts);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public TetrisModel.GameStatus getGameStatus() {
+        return gameStatus;
+    }
+
+    /**
+     *  获取显示矩阵第 row 行第 column 列的格子值（正数为砖块，负数为投影，0 为空）
+     * */
+    public int getCell(int row, int column) {
+        return cells[row * TetrisModel.GAME_WIDTH + column];
+    }
+
+    /**
+     *  将显示矩阵复制至调用方提供的缓冲区（格式与 TetrisModel.fillGameDisplay 相同）
+     * */
+    public void copyCells(int[] buffer) {
+        System.arraycopy(cells, 0, buffer, 0, cells.length);
+    }
+
+    public Tile getCurrentTile() {
+        return currentTile;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    /**
+     *  获取第 index 个后续砖块
+     *
+     *  @return 后续砖块，准备状态或越界时返回 null
+     * */
+    public Tile getFollowingTile(int index) {
+        return index >= 0 && index < followingCounts ? followingTiles[index] : null;
+    }
+
+    public Tile getHoldTile() {
+        return holdTile;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getTileCounts() {
+        return tileCounts;
+    }
+}
@@ -0,0 +1,46 @@
+package com.pineislet.swing.tetris.model;
+
+/**
+ * 玩家输入动作
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public enum InputAction {
+    MOVE_LEFT,
+    START_MOVE_LEFT,
+    STOP_MOVE_LEFT,
+    MOVE_RIGHT,
+    START_MOVE_RIGHT,
+    STOP_MOVE_RIGHT,
+    SPIN_POS,
+    SPIN_NEG,
+    SPIN_REV,
+    START_SOFT_DOWN,
+    STOP_SOFT_DOWN,
+    HARD_DOWN,
+    HOLD,
+    /**
+     *  设置速度级别（参数为速度级别）
+     * */
+    SET_SPEED_LEVEL,
+    /**
+     *  设置敏感度级别（参数为敏感度级别）
+     * */
+    SET_SENSITIVITY_LEVEL;
+
+    /**
+     *  动作缓存（避免 values() 复制数组）
+     * */
+    private static final InputAction[] ACTIONS = values();
+
+    /**
+     *  按动作编号获取动作
+     *
+     *  @return 动作，编号无效时返回 null
+     * */
+    public static InputAction getAction(int number) {
+        return number >= 0 && number < ACTIONS.length ? ACTIONS[number] : null;
+    }
+}
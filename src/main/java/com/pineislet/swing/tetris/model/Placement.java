@@ -0,0 +1,76 @@
+package com.pineislet.swing.tetris.model;
+
+/**
+ * 落点（不可变）
+ * 描述一次放置：是否先 hold、砖块方向及左上角列号，砖块从顶部直落到底；
+ * 全部落点预先创建并缓存，搜索时按 of 取用，不分配内存
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public final class Placement {
+
+    /**
+     *  左上角列号范围（砖块形状左侧可能有空列，列号可为负）
+     * */
+    public static final int MIN_X = 1 - TileShape.SIZE;
+    public static final int MAX_X = TetrisModel.GAME_WIDTH - 1;
+
+    /**
+     *  落点缓存（按 hold、方向、列号）
+     * */
+    private static final Placement[][][] CACHE = new Placement[2][Direction.values().length][MAX_X - MIN_X + 1];
+
+    static {
+        for (int hold = 0; hold < 2; hold++) {
+            for (Direction direction : Direction.values()) {
+                for (int x = MIN_X; x <= MAX_X; x++) {
+                    CACHE[hold][direction.ordinal()][x - MIN_X] = new Placement(hold == 1, direction, x);
+                }
+            }
+        }
+    }
+
+    private final boolean hold;
+    private final Direction direction;
+    private final int x;
+
+    private Placement(boolean hold, Direction direction, int x) {
+        this.hold = hold;
+        this.direction = direction;
+        this.x = x;
+    }
+
+    /**
+     *  获取落点
+     *
+     *  @param direction 砖块方向
+     *  @param x 砖块左上角列号（MIN_X ~ MAX_X）
+     *  @param hold 是否先 hold 再放置换出的砖块
+     *  @return 缓存的落点
+     * */
+    public static Placement of(Direction direction, int x, boolean hold) {
+        if (x < MIN_X || x > MAX_X) {
+            throw new IllegalArgumentException("x out of range: " + x);
+        }
+        return CACHE[hold ? 1 : 0][direction.ordinal()][x - MIN_X];
+    }
+
+    public boolean isHold() {
+        return hold;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement{" + (hold ? "hold, " : "") + direction + ", x=" + x + "}";
+    }
+}
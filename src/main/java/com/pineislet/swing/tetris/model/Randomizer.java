@@ -0,0 +1,74 @@
+package com.pineislet.swing.tetris.model;
+
+/**
+ * 砖块随机生成器
+ * 相同种子产生相同砖块序列，可用于回放与基准测试
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface Randomizer {
+
+    /**
+     *  获取生成器类型
+     *
+     *  @return 生成器类型
+     * */
+    Type getType();
+
+    /**
+     *  获取随机种子
+     *
+     *  @return 随机种子
+     * */
+    long getSeed();
+
+    /**
+     *  以指定种子重置生成器
+     *
+     *  @param seed 随机种子
+     * */
+    void reset(long seed);
+
+    /**
+     *  生成下一砖块
+     *
+     *  @return 砖块
+     * */
+    Tile next();
+
+    /**
+     *  获取生成器内部状态（与种子一起可完整还原生成器）
+     *
+     *  @return 内部状态
+     * */
+    long getState();
+
+    /**
+     *  还原生成器内部状态
+     *
+     *  @param state 由 getState 获取的内部状态
+     * */
+    void setState(long state);
+
+    /**
+     *  枚举 生成器类型
+     * */
+    enum Type {
+        /**
+         *  7-bag：每 7 块为一组，组内包含全部砖块且乱序
+         * */
+        BAG,
+
+        /**
+         *  经典：每块独立等概率随机
+         * */
+        CLASSIC,
+
+        /**
+         *  历史：尽量避免与最近 4 块重复
+         * */
+        HISTORY
+    }
+}
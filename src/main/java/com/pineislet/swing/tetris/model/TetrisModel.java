@@ -1,7 +1,11 @@
 package com.pineislet.swing.tetris.model;
 
+import com.pineislet.swing.tetris.model.event.OnGameEventListener;
+import com.pineislet.swing.tetris.model.event.OnInputActionListener;
+import com.pineislet.swing.tetris.model.event.OnInputAppliedListener;
 import com.pineislet.swing.tetris.model.event.OnStatusChangedListener;
 import com.pineislet.swing.tetris.model.event.OnTileModifiedListener;
+import com.pineislet.swing.tetris.model.event.OnVersionChangedListener;
 
 import java.time.Duration;
 import java.util.List;
@@ -60,7 +64,7 @@ public interface TetrisModel {
     /**
      *  左移
      *
-     * @return 操作是否成功
+     * @return 操作是否成功（操作由游戏线程异步执行时返回是否提交成功）
      * */
     boolean moveLeft();
 
@@ -77,7 +81,7 @@ public interface TetrisModel {
     /**
      *  右移
      *
-     *  @return 操作是否成功
+     *  @return 操作是否成功（操作由游戏线程异步执行时返回是否提交成功）
      * */
     boolean moveRight();
 
@@ -94,20 +98,20 @@ public interface TetrisModel {
     /**
      *  顺时针旋转90度
      *
-     *  return 操作是否成功
+     *  return 操作是否成功（操作由游戏线程异步执行时返回是否提交成功）
      * */
     boolean spinPos();
 
     /**
      *  逆时针旋转90度
-     *  @return 操作是否成功
+     *  @return 操作是否成功（操作由游戏线程异步执行时返回是否提交成功）
      * */
     boolean spinNeg();
 
     /**
      * 旋转180度
      *
-     * @return 操作是否成功
+     * @return 操作是否成功（操作由游戏线程异步执行时返回是否提交成功）
      * */
     boolean spinRev();
 
@@ -131,6 +135,16 @@ public interface TetrisModel {
      * */
     void hold();
 
+    /**
+     *  提交带输入时间的操作（用于统计输入延迟）
+     *  操作执行后若改变了状态，以输入时间及该操作产生的版本号通知输入生效监听器
+     *
+     *  @param action 输入动作（不可为设置级别类动作）
+     *  @param inputNanos 输入发生的时间（System.nanoTime 时间轴）
+     *  @return 操作是否成功（操作由游戏线程异步执行时返回是否提交成功）
+     * */
+    boolean input(InputAction action, long inputNanos);
+
     /**
      *  游戏推进
      * */
@@ -150,6 +164,40 @@ public interface TetrisModel {
      * */
     int[][] getGameDisplayMatrix();
 
+    /**
+     *  获取状态版本号
+     *  任何影响显示的状态改变（移动、旋转、下落、锁定、切换砖块、切换状态）后版本号自增
+     *
+     *  @return 状态版本号
+     * */
+    long getVersion();
+
+    /**
+     *  将游戏显示矩阵按行填充至调用方提供的缓冲区（不分配内存）
+     *  若状态版本号与 knownVersion 相同，则不进行复制
+     *
+     *  @param buffer 显示缓冲区（长度不小于 GAME_WIDTH * GAME_HEIGHT，第 i 行第 j 列位于 i * GAME_WIDTH + j）
+     *  @param knownVersion 缓冲区当前内容对应的版本号（首次调用可传 -1）
+     *  @return 缓冲区内容对应的版本号
+     * */
+    long fillGameDisplay(int[] buffer, long knownVersion);
+
+    /**
+     *  获取最近发布的状态快照（每次调用新建快照，逐帧读取应使用 readSnapshot）
+     *
+     *  @return 状态快照
+     * */
+    GameSnapshot getSnapshot();
+
+    /**
+     *  将最近发布的状态快照复制至调用方持有的快照（不分配内存，不获取模型的锁，不阻塞游戏推进）
+     *  快照在每次操作或推进改变状态后整体发布，其版本号可能略落后于 getVersion；
+     *  调用方的快照版本号与已发布的相同时不复制（同一快照对象应只用于读取同一模型）
+     *
+     *  @param snapshot 调用方持有的快照
+     * */
+    void readSnapshot(GameSnapshot snapshot);
+
     /**
      *  获取后续砖块列表
      *
@@ -157,6 +205,14 @@ public interface TetrisModel {
      * */
     List<Tile> getFollowingTileList();
 
+    /**
+     *  获取第 index 个后续砖块（不分配内存）
+     *
+     *  @param index 序号（0 ~ FOLLOW_TILE_COUNTS - 1）
+     *  @return 后续砖块，准备状态或越界时返回 null
+     * */
+    Tile getFollowingTile(int index);
+
     /**
      *  获取hold区方块
      *
@@ -164,6 +220,20 @@ public interface TetrisModel {
      * */
     Tile getHoldTile();
 
+    /**
+     *  获取当前游戏随机种子（相同种子产生相同砖块序列）
+     *
+     *  @return 随机种子
+     * */
+    long getSeed();
+
+    /**
+     *  获取砖块随机生成器类型
+     *
+     *  @return 随机生成器类型
+     * */
+    Randomizer.Type getRandomizerType();
+
     /**
      *  获取游戏分数
      *
@@ -171,6 +241,13 @@ public interface TetrisModel {
      * */
     int getScore();
 
+    /**
+     *  获取已消除行数
+     *
+     *  @return 已消除行数
+     * */
+    int getLines();
+
     /**
      *  获取游戏时间
      *
@@ -178,6 +255,20 @@ public interface TetrisModel {
      * */
     Duration getTime();
 
+    /**
+     *  获取游戏时间（不分配内存）
+     *
+     *  @return 游戏时间（纳秒）
+     * */
+    long getTimeNanos();
+
+    /**
+     *  获取本局游戏推进次数（每推进一次游戏自增，回到准备状态时清零）
+     *
+     *  @return 游戏推进次数
+     * */
+    long getTicks();
+
     /**
      *  添加砖块锁定监听器
      *
@@ -206,6 +297,62 @@ public interface TetrisModel {
      * */
     void removeOnStatusChangedListener(OnStatusChangedListener listener);
 
+    /**
+     *  添加输入动作监听器
+     *
+     *  @param listener 监听器
+     * */
+    void addOnInputActionListener(OnInputActionListener listener);
+
+    /**
+     *  移除输入动作监听器
+     *
+     *  @param listener 监听器
+     * */
+    void removeOnInputActionListener(OnInputActionListener listener);
+
+    /**
+     *  添加输入生效监听器
+     *
+     *  @param listener 监听器
+     * */
+    void addOnInputAppliedListener(OnInputAppliedListener listener);
+
+    /**
+     *  移除输入生效监听器
+     *
+     *  @param listener 监听器
+     * */
+    void removeOnInputAppliedListener(OnInputAppliedListener listener);
+
+    /**
+     *  添加状态版本号改变监听器
+     *
+     *  @param listener 监听器
+     * */
+    void addOnVersionChangedListener(OnVersionChangedListener listener);
+
+    /**
+     *  移除状态版本号改变监听器
+     *
+     *  @param listener 监听器
+     * */
+    void removeOnVersionChangedListener(OnVersionChangedListener listener);
+
+    /**
+     *  添加游戏事件监听器（砖块出现、移动、旋转、锁定、消行、hold、速度级别改变及游戏结束）
+     *
+     *  @param listener 监听器
+     * */
+    void addOnGameEventListener(OnGameEventListener listener);
+
+    /**
+     *  移除游戏事件监听器
+     *
+     *  @param listener 监听器
+     * */
+    void removeOnGameEventListener(OnGameEventListener listener);
+
     /**
      *  枚举 游戏状态
      * */
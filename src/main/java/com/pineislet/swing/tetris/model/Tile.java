@@ -57,15 +57,50 @@ public enum Tile {
             });
 
     /**
-     *  砖块矩阵
+     *  各方向砖块形状（按方向编号索引）
      * */
-    private int [][] tileMatrix;
+    private final TileShape[] shapes;
 
     /**
      *  构造方法（私有）
      * */
     private Tile(int[][] tileMatrix) {
-        this.tileMatrix = tileMatrix;
+        // 预先计算四个方向的形状
+        shapes = new TileShape[4];
+        for (Direction direction : Direction.values()) {
+            int[][] matrix = new int[4][4];
+            for (int i = 0; i < 4; i++) {
+                for (int j = 0; j < 4; j++) {
+                    switch(direction) {
+                        case NORTH:
+                            matrix[i][j] = tileMatrix[i][j];
+                            break;
+                        case EAST:
+                            matrix[i][j] = tileMatrix[3 - j][i];
+                            break;
+                        case SOUTH:
+                            matrix[i][j] = tileMatrix[3 - i][3 - j];
+                            break;
+                        case WEST:
+                            matrix[i][j] = tileMatrix[j][3 - i];
+                            break;
+                        default :
+                            assert false;
+                    }
+                }
+            }
+            shapes[direction.getNumber()] = new TileShape(matrix);
+        }
+    }
+
+    /**
+     *  获取指定方向的砖块形状（预先计算，不分配内存）
+     *
+     *  @param direction 砖块方向
+     *  @return 砖块形状
+     * */
+    public TileShape getShape(Direction direction) {
+        return shapes[direction.getNumber()];
     }
 
     /**
@@ -78,34 +113,13 @@ public enum Tile {
     }
 
     /**
-     *  获取指定方向的砖块矩阵
+     *  获取指定方向的砖块矩阵（返回副本，频繁调用处请使用 getShape）
      *
      *  @param direction 砖块方向
      *  @return 砖块矩阵
      * */
     public int[][] getTileMatrix(Direction direction) {
-        int[][] matrix = new int[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                switch(direction) {
-                    case NORTH:
-                        matrix[i][j] = tileMatrix[i][j];
-                        break;
-                    case EAST:
-                        matrix[i][j] = tileMatrix[3 - j][i];
-                        break;
-                    case SOUTH:
-                        matrix[i][j] = tileMatrix[3 - i][3 - j];
-                        break;
-                    case WEST:
-                        matrix[i][j] = tileMatrix[j][3 - i];
-                        break;
-                    default :
-                        assert false;
-                }
-            }
-        }
-        return matrix;
+        return getShape(direction).copyMatrix();
     }
 
     /**
@@ -0,0 +1,186 @@
+package com.pineislet.swing.tetris.model;
+
+/**
+ * 砖块形状（不可变）
+ * 由 Tile 按方向预先计算，提供格子坐标、行掩码、包围盒及每列最低格等数据，读取时不分配内存
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public final class TileShape {
+
+    /**
+     *  形状矩阵边长
+     * */
+    public static final int SIZE = 4;
+
+    /**
+     *  砖块种类值
+     * */
+    private final int value;
+
+    /**
+     *  形状矩阵
+     * */
+    private final int[][] matrix;
+
+    /**
+     *  格子坐标（行、列）
+     * */
+    private final int[] cellRows;
+    private final int[] cellColumns;
+
+    /**
+     *  行掩码（第 j 列对应第 j 位）
+     * */
+    private final int[] rowMasks;
+
+    /**
+     *  每列最低格行号（该列无格子时为 -1）
+     * */
+    private final int[] lowestRows;
+
+    /**
+     *  包围盒
+     * */
+    private final int minRow;
+    private final int maxRow;
+    private final int minColumn;
+    private final int maxColumn;
+
+    /**
+     *  构造方法
+     *
+     *  @param matrix 4×4 形状矩阵（构造后不再修改）
+     * */
+    TileShape(int[][] matrix) {
+        this.matrix = matrix;
+
+        int cellCounts = 0;
+        int value = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    cellCounts++;
+                    value = cell;
+                }
+            }
+        }
+        this.value = value;
+
+        cellRows = new int[cellCounts];
+        cellColumns = new int[cellCounts];
+        rowMasks = new int[SIZE];
+        lowestRows = new int[SIZE];
+        int minRow = SIZE, maxRow = -1, minColumn = SIZE, maxColumn = -1;
+        for (int j = 0; j < SIZE; j++) {
+            lowestRows[j] = -1;
+        }
+
+        int k = 0;
+        for (int i = 0; i < SIZE; i++) {
+            for (int j = 0; j < SIZE; j++) {
+                if (matrix[i][j] != 0) {
+                    cellRows[k] = i;
+                    cellColumns[k] = j;
+                    k++;
+                    rowMasks[i] |= 1 << j;
+                    lowestRows[j] = i;
+                    minRow = Math.min(minRow, i);
+                    maxRow = Math.max(maxRow, i);
+                    minColumn = Math.min(minColumn, j);
+                    maxColumn = Math.max(maxColumn, j);
+                }
+            }
+        }
+        this.minRow = minRow;
+        this.maxRow = maxRow;
+        this.minColumn = minColumn;
+        this.maxColumn = maxColumn;
+    }
+
+    /**
+     *  获取砖块种类值
+     * */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     *  获取指定格子的值
+     *
+     *  @param row 行号（0——3）
+     *  @param column 列号（0——3）
+     *  @return 格子值（0 为空）
+     * */
+    public int getCell(int row, int column) {
+        return matrix[row][column];
+    }
+
+    /**
+     *  获取格子数目
+     * */
+    public int getCellCounts() {
+        return cellRows.length;
+    }
+
+    /**
+     *  获取第 index 个格子的行号
+     * */
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     *  获取第 index 个格子的列号
+     * */
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    /**
+     *  获取指定行的行掩码（第 j 列对应第 j 位）
+     * */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     *  获取指定列最低格的行号
+     *
+     *  @return 行号，该列无格子时为 -1
+     * */
+    public int getLowestRow(int column) {
+        return lowestRows[column];
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    /**
+     *  复制形状矩阵
+     *
+     *  @return 新的 4×4 矩阵
+     * */
+    int[][] copyMatrix() {
+        int[][] copy = new int[SIZE][];
+        for (int i = 0; i < SIZE; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,482 @@
+package com.pineislet.swing.tetris.model.event;
+
+import com.pineislet.swing.tetris.model.TetrisModel;
+
+import java.util.EventListener;
+import java.util.EventObject;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 异步事件总线
+ * 作为监听器挂接到模型上，将游戏事件、状态改变及砖块切换事件写入预分配的环形缓冲区后立即返回，
+ * 每个订阅者由各自的线程按序批量读取并分发，慢的订阅者不会拖慢游戏线程（缓冲区满时按溢出策略处理）
+ *
+ * 写入方（游戏线程，或切换状态的界面线程）之间以写锁互斥，订阅者只读缓冲区、只写自己的读取位置；
+ * 合并策略下的暂存事件由腾出槽位的订阅者尝试写出（仅 tryLock，不等待写入方），游戏随后不再产生事件时也不会滞留
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class AsyncEventBus implements OnGameEventListener, OnStatusChangedListener, OnTileModifiedListener {
+
+    /**
+     *  枚举 溢出策略（缓冲区已满，即最慢的订阅者落后一整圈时）
+     * */
+    public enum OverflowPolicy {
+        /**
+         *  阻塞写入方直至最慢的订阅者腾出槽位（不丢事件，但订阅者在监听器中不得等待模型的锁）
+         * */
+        BLOCK,
+        /**
+         *  丢弃新的游戏事件及砖块切换事件并计数（状态改变事件不丢弃，阻塞写入）
+         * */
+        DROP,
+        /**
+         *  连续的同类移动、旋转、速度级别事件合并为一个暂存事件，有槽位时（下一次写入或订阅者读取之后）再写入；其余事件阻塞写入
+         * */
+        COALESCE
+    }
+
+    /**
+     *  槽位中的事件种类
+     * */
+    private static final int GAME_EVENT = 0;
+    private static final int STATUS_CHANGED = 1;
+    private static final int TILE_MODIFIED = 2;
+
+    /**
+     *  写入方等待槽位及订阅者空闲时的休眠时间（纳秒，写入新事件时会唤醒空闲的订阅者）
+     * */
+    private static final long BLOCK_PARK_NANOS = 50_000L;
+    private static final long IDLE_PARK_NANOS = 100_000_000L;
+
+    /**
+     *  订阅者线程编号
+     * */
+    private static final AtomicLong THREAD_COUNTER = new AtomicLong();
+
+    /**
+     *  槽位
+     * */
+    private static final class Slot {
+        private int kind;
+        private final GameEvent gameEvent = new GameEvent();
+        private EventObject event;                      // 状态改变、砖块切换事件（不可变，直接引用）
+    }
+
+    /**
+     *  容量掩码及槽位
+     * */
+    private final int mask;
+    private final Slot[] slots;
+
+    /**
+     *  溢出策略
+     * */
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     *  已写入的事件数（即下一个写入位置）
+     * */
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     *  订阅者
+     * */
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     *  写锁（写入方之间及写出暂存事件的订阅者与写入方之间互斥）
+     * */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     *  合并策略下暂存的事件（持有写锁时访问）及是否存在暂存事件
+     * */
+    private final GameEvent stagedEvent = new GameEvent();
+    private volatile boolean staged;
+
+    /**
+     *  丢弃及合并的事件数
+     * */
+    private volatile long droppedCounts;
+    private volatile long coalescedCounts;
+
+    /**
+     *  构造方法
+     *
+     *  @param capacity 容量（2 的幂）
+     *  @param overflowPolicy 溢出策略
+     * */
+    public AsyncEventBus(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0 || (capacity & capacity - 1) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     *  挂接到模型（接收其游戏事件、状态改变及砖块切换事件）
+     * */
+    public void attach(TetrisModel tetrisModel) {
+        tetrisModel.addOnGameEventListener(this);
+        tetrisModel.addOnStatusChangedListener(this);
+        tetrisModel.addOnTileModifiedListener(this);
+    }
+
+    /**
+     *  从模型上卸下
+     * */
+    public void detach(TetrisModel tetrisModel) {
+        tetrisModel.removeOnGameEventListener(this);
+        tetrisModel.removeOnStatusChangedListener(this);
+        tetrisModel.removeOnTileModifiedListener(this);
+    }
+
+    /**
+     *  添加游戏事件订阅者（在独立线程中回调，事件对象仅在回调期间有效）
+     *
+     *  @param name 订阅者名称（用于线程名）
+     *  @return 订阅
+     * */
+    public Subscription addOnGameEventListener(String name, OnGameEventListener listener) {
+        return subscribe(name, GAME_EVENT, listener);
+    }
+
+    /**
+     *  添加游戏状态改变订阅者（在独立线程中回调）
+     * */
+    public Subscription addOnStatusChangedListener(String name, OnStatusChangedListener listener) {
+        return subscribe(name, STATUS_CHANGED, listener);
+    }
+
+    /**
+     *  添加砖块切换订阅者（在独立线程中回调）
+     * */
+    public Subscription addOnTileModifiedListener(String name, OnTileModifiedListener listener) {
+        return subscribe(name, TILE_MODIFIED, listener);
+    }
+
+    /**
+     *  取消全部订阅
+     * */
+    public void shutdown() {
+        for (Subscription subscription : subscriptions) {
+            subscription.cancel();
+        }
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     *  获取已写入的事件数
+     * */
+    public long getPublishedCounts() {
+        return cursor.get();
+    }
+
+    /**
+     *  获取因缓冲区已满而丢弃的事件数（DROP 策略）
+     * */
+    public long getDroppedCounts() {
+        return droppedCounts;
+    }
+
+    /**
+     *  获取被合并的事件数（COALESCE 策略）
+     * */
+    public long getCoalescedCounts() {
+        return coalescedCounts;
+    }
+
+    @Override
+    public void onGameEvent(GameEvent event) {
+        publish(GAME_EVENT, event, null);
+    }
+
+    @Override
+    public void onStatusChanged(StatusChangedEvent event) {
+        publish(STATUS_CHANGED, null, event);
+    }
+
+    @Override
+    public void onTileModified(TileModifiedEvent event) {
+        publish(TILE_MODIFIED, null, event);
+    }
+
+    private Subscription subscribe(String name, int kind, EventListener listener) {
+        writeLock.lock();
+        try {
+            Subscription subscription = new Subscription(name, kind, listener, cursor.get());
+            subscriptions.add(subscription);
+            subscription.thread.start();
+            return subscription;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     *  写入事件
+     * */
+    private void publish(int kind, GameEvent gameEvent, EventObject event) {
+        // 没有订阅者时不写入
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            doPublish(kind, gameEvent, event);
+        } finally {
+            writeLock.unlock();
+        }
+        // 持有写锁期间腾出的槽位，订阅者无法获取写锁写出暂存事件，释放后复查
+        flushStaged();
+    }
+
+    /**
+     *  写入事件（持有写锁）
+     * */
+    private void doPublish(int kind, GameEvent gameEvent, EventObject event) {
+        long position = cursor.get();
+        switch (overflowPolicy) {
+            case BLOCK:
+                awaitCapacity(position);
+                break;
+            case DROP:
+                if (kind == STATUS_CHANGED) {
+                    awaitCapacity(position);
+                }
+                else if (!hasCapacity(position)) {
+                    droppedCounts++;
+                    return;
+                }
+                break;
+            case COALESCE:
+                // 先写出暂存事件以保证顺序
+                if (staged) {
+                    if (hasCapacity(position) || kind != GAME_EVENT || !stagedEvent.merge(gameEvent)) {
+                        awaitCapacity(position);
+                        write(position++, GAME_EVENT, stagedEvent, null);
+                        staged = false;
+                    }
+                    else {
+                        coalescedCounts++;
+                        return;
+                    }
+                }
+                if (!hasCapacity(position)) {
+                    if (kind == GAME_EVENT && isMergeable(gameEvent.getType())) {
+                        stagedEvent.copyFrom(gameEvent);
+                        staged = true;
+                        return;
+                    }
+                    awaitCapacity(position);
+                }
+                break;
+            default:
+                assert false;
+        }
+        write(position, kind, gameEvent, event);
+    }
+
+    /**
+     *  有槽位时写出暂存事件（写入方释放写锁后及订阅者归还槽位后调用）
+     *  写锁被占用时不等待：持有者释放后会再次调用本方法复查，因此不会遗漏
+     * */
+    private void flushStaged() {
+        while (staged && hasCapacity(cursor.get()) && writeLock.tryLock()) {
+            try {
+                long position = cursor.get();
+                if (staged && hasCapacity(position)) {
+                    write(position, GAME_EVENT, stagedEvent, null);
+                    staged = false;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private static boolean isMergeable(GameEvent.Type type) {
+        return type == GameEvent.Type.PIECE_MOVED || type == GameEvent.Type.PIECE_ROTATED || type == GameEvent.Type.LEVEL_CHANGED;
+    }
+
+    /**
+     *  写入槽位，发布写入位置并唤醒空闲的订阅者
+     * */
+    private void write(long position, int kind, GameEvent gameEvent, EventObject event) {
+        Slot slot = slots[(int) position & mask];
+        slot.kind = kind;
+        slot.event = event;
+        if (null != gameEvent) {
+            slot.gameEvent.copyFrom(gameEvent);
+        }
+        cursor.set(position + 1);
+        for (Subscription subscription : subscriptions) {
+            if (subscription.waiting) {
+                LockSupport.unpark(subscription.thread);
+            }
+        }
+    }
+
+    /**
+     *  写入位置的槽位是否已被全部订阅者读取
+     * */
+    private boolean hasCapacity(long position) {
+        long minimum = position;
+        for (Subscription subscription : subscriptions) {
+            minimum = Math.min(minimum, subscription.sequence);
+        }
+        return position - minimum < slots.length;
+    }
+
+    private void awaitCapacity(long position) {
+        while (!hasCapacity(position)) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+    }
+
+    /**
+     *  订阅
+     * */
+    public final class Subscription {
+
+        /**
+         *  订阅的事件种类及监听器
+         * */
+        private final int kind;
+        private final EventListener listener;
+
+        /**
+         *  分发线程
+         * */
+        private final Thread thread;
+
+        /**
+         *  下一个读取位置（写入方据此判断槽位能否复用）
+         * */
+        private volatile long sequence;
+
+        /**
+         *  是否在等待新事件（写入方据此决定是否唤醒）
+         * */
+        private volatile boolean waiting;
+
+        private volatile boolean running = true;
+
+        /**
+         *  最大落后事件数、已分发事件数及批次数
+         * */
+        private volatile long maxLag;
+        private volatile long deliveredCounts;
+        private volatile long batchCounts;
+
+        private Subscription(String name, int kind, EventListener listener, long sequence) {
+            this.kind = kind;
+            this.listener = listener;
+            this.sequence = sequence;
+            this.thread = new Thread(this::run, "tetris-event-" + name + "-" + THREAD_COUNTER.incrementAndGet());
+            this.thread.setDaemon(true);
+        }
+
+        /**
+         *  取消订阅（未分发的事件不再分发）
+         * */
+        public void cancel() {
+            running = false;
+            subscriptions.remove(this);
+            LockSupport.unpark(thread);
+        }
+
+        /**
+         *  获取当前落后的事件数（已写入但尚未分发，含其它种类的事件及尚未写出的暂存事件）
+         * */
+        public long getLag() {
+            return cursor.get() - sequence + (staged ? 1 : 0);
+        }
+
+        /**
+         *  获取开始读取一批事件时的最大落后事件数
+         * */
+        public long getMaxLag() {
+            return maxLag;
+        }
+
+        public long getDeliveredCounts() {
+            return deliveredCounts;
+        }
+
+        public long getBatchCounts() {
+            return batchCounts;
+        }
+
+        private void run() {
+            while (running) {
+                long available = cursor.get();
+                long next = sequence;
+                if (available == next) {
+                    // 先声明等待再复查，避免错过写入方的唤醒
+                    waiting = true;
+                    if (cursor.get() == next && running) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                    continue;
+                }
+                if (available - next > maxLag) {
+                    maxLag = available - next;
+                }
+                // 读取一批事件，全部分发后再归还槽位
+                long delivered = deliveredCounts;
+                for (long position = next; position < available && running; position++) {
+                    Slot slot = slots[(int) position & mask];
+                    if (slot.kind == kind) {
+                        deliver(slot);
+                        delivered++;
+                    }
+                }
+                deliveredCounts = delivered;
+                batchCounts++;
+                sequence = available;
+                // 腾出了槽位，写出缓冲区满时暂存的事件
+                flushStaged();
+            }
+        }
+
+        private void deliver(Slot slot) {
+            try {
+                switch (kind) {
+                    case GAME_EVENT:
+                        ((OnGameEventListener) listener).onGameEvent(slot.gameEvent);
+                        break;
+                    case STATUS_CHANGED:
+                        ((OnStatusChangedListener) listener).onStatusChanged((StatusChangedEvent) slot.event);
+                        break;
+                    case TILE_MODIFIED:
+                        ((OnTileModifiedListener) listener).onTileModified((TileModifiedEvent) slot.event);
+                        break;
+                    default:
+                        assert false;
+                }
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.pineislet.swing.tetris.model.event;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 游戏事件
+ * 负载均为基本类型（或枚举），事件对象由模型复用：仅在 onGameEvent 调用期间有效，监听器需保留数据时应复制所需字段
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public final class GameEvent {
+
+    /**
+     *  事件类型
+     * */
+    public enum Type {
+        /**
+         *  砖块出现（tile、direction、x、y 为新砖块）
+         * */
+        PIECE_SPAWNED,
+        /**
+         *  砖块移动（dx、dy 为移动距离，硬降时为整段下落距离）
+         * */
+        PIECE_MOVED,
+        /**
+         *  砖块旋转（turns 为顺时针旋转的 90 度次数，x、y 为自适应调整后的位置）
+         * */
+        PIECE_ROTATED,
+        /**
+         *  砖块锁定（tile、direction、x、y 为锁定位置）
+         * */
+        PIECE_LOCKED,
+        /**
+         *  消行（lineCounts 为消除行数，rows 为被消除的显示行掩码，score、lines 为消行后的得分及总行数）
+         * */
+        LINES_CLEARED,
+        /**
+         *  hold（tile 为放入hold区的砖块）
+         * */
+        HOLD,
+        /**
+         *  速度级别改变（level 为新级别）
+         * */
+        LEVEL_CHANGED,
+        /**
+         *  游戏结束（score、lines 为最终得分及总行数）
+         * */
+        GAME_OVER
+    }
+
+    /**
+     *  事件类型及发生时的游戏推进次数
+     * */
+    private Type type;
+    private long ticks;
+
+    /**
+     *  砖块、方向及左上角位置
+     * */
+    private Tile tile;
+    private Direction direction;
+    private int x;
+    private int y;
+
+    /**
+     *  移动距离及旋转次数
+     * */
+    private int dx;
+    private int dy;
+    private int turns;
+
+    /**
+     *  消除行数、被消除的行、得分、总行数及速度级别
+     * */
+    private int lineCounts;
+    private int rows;
+    private int score;
+    private int lines;
+    private int level;
+
+    /**
+     *  设置事件（由模型调用，其余负载字段清零）
+     *
+     *  @return 事件本身
+     * */
+    public GameEvent reset(Type type, long ticks, Tile tile, Direction direction, int x, int y) {
+        this.type = type;
+        this.ticks = ticks;
+        this.tile = tile;
+        this.direction = direction;
+        this.x = x;
+        this.y = y;
+        this.dx = 0;
+        this.dy = 0;
+        this.turns = 0;
+        this.lineCounts = 0;
+        this.rows = 0;
+        this.score = 0;
+        this.lines = 0;
+        this.level = 0;
+        return this;
+    }
+
+    public GameEvent setMove(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+        return this;
+    }
+
+    public GameEvent setTurns(int turns) {
+        this.turns = turns;
+        return this;
+    }
+
+    public GameEvent setLinesCleared(int lineCounts, int rows) {
+        this.lineCounts = lineCounts;
+        this.rows = rows;
+        return this;
+    }
+
+    public GameEvent setScore(int score, int lines) {
+        this.score = score;
+        this.lines = lines;
+        return this;
+    }
+
+    public GameEvent setLevel(int level) {
+        this.level = level;
+        return this;
+    }
+
+    /**
+     *  复制另一事件的全部字段（异步分发时由事件总线写入预分配的槽位）
+     *
+     *  @return 事件本身
+     * */
+    GameEvent copyFrom(GameEvent other) {
+        this.type = other.type;
+        this.ticks = other.ticks;
+        this.tile = other.tile;
+        this.direction = other.direction;
+        this.x = other.x;
+        this.y = other.y;
+        this.dx = other.dx;
+        this.dy = other.dy;
+        this.turns = other.turns;
+        this.lineCounts = other.lineCounts;
+        this.rows = other.rows;
+        this.score = other.score;
+        this.lines = other.lines;
+        this.level = other.level;
+        return this;
+    }
+
+    /**
+     *  将紧随其后的同类事件合并至本事件（移动距离累加、旋转次数累加、速度级别取新值，位置及方向取新值）
+     *
+     *  @return 是否合并成功（类型或砖块不同，或该类型不可合并时返回 false）
+     * */
+    boolean merge(GameEvent newer) {
+        if (type != newer.type || tile != newer.tile) {
+            return false;
+        }
+        switch (type) {
+            case PIECE_MOVED:
+                dx += newer.dx;
+                dy += newer.dy;
+                break;
+            case PIECE_ROTATED:
+                turns = (turns + newer.turns) & 3;
+                break;
+            case LEVEL_CHANGED:
+                level = newer.level;
+                break;
+            default:
+                return false;
+        }
+        ticks = newer.ticks;
+        direction = newer.direction;
+        x = newer.x;
+        y = newer.y;
+        return true;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     *  获取事件发生时的游戏推进次数
+     * */
+    public long getTicks() {
+        return ticks;
+    }
+
+    public Tile getTile() {
+        return tile;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getDx() {
+        return dx;
+    }
+
+    public int getDy() {
+        return dy;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public int getLineCounts() {
+        return lineCounts;
+    }
+
+    /**
+     *  获取被消除的行（第 i 位对应消除前显示矩阵的第 i 行）
+     * */
+    public int getRows() {
+        return rows;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public String toString() {
+        return "GameEvent{" + type + ", ticks=" + ticks + ", tile=" + tile + ", direction=" + direction
+                + ", x=" + x + ", y=" + y + ", dx=" + dx + ", dy=" + dy + ", turns=" + turns
+                + ", lineCounts=" + lineCounts + ", rows=" + Integer.toBinaryString(rows)
+                + ", score=" + score + ", lines=" + lines + ", level=" + level + "}";
+    }
+}
@@ -0,0 +1,19 @@
+package com.pineislet.swing.tetris.model.event;
+
+import java.util.EventListener;
+
+/**
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface OnGameEventListener extends EventListener {
+
+    /**
+     *  游戏事件（在模型线程中调用，应尽快返回；事件对象在返回后被复用，不得保留）
+     *
+     *  @param event 事件
+     * */
+    void onGameEvent(GameEvent event);
+
+}
@@ -0,0 +1,23 @@
+package com.pineislet.swing.tetris.model.event;
+
+import com.pineislet.swing.tetris.model.InputAction;
+
+import java.util.EventListener;
+
+/**
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface OnInputActionListener extends EventListener {
+
+    /**
+     *  输入动作（在模型线程中、执行该动作前触发，参数均为基本类型，不分配事件对象）
+     *
+     *  @param action 输入动作
+     *  @param argument 动作参数（仅设置级别类动作有效，其余为 0）
+     *  @param tick 动作发生时的游戏推进次数
+     * */
+    void onInputAction(InputAction action, int argument, long tick);
+
+}
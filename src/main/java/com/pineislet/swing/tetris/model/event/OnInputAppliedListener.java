@@ -0,0 +1,23 @@
+package com.pineislet.swing.tetris.model.event;
+
+import com.pineislet.swing.tetris.model.InputAction;
+
+import java.util.EventListener;
+
+/**
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface OnInputAppliedListener extends EventListener {
+
+    /**
+     *  带输入时间的操作已执行并改变了状态（未改变状态的操作不触发，在模型线程中调用，应尽快返回）
+     *
+     *  @param action 输入动作
+     *  @param inputNanos 提交时附带的输入时间
+     *  @param version 该操作执行后的状态版本号
+     * */
+    void onInputApplied(InputAction action, long inputNanos, long version);
+
+}
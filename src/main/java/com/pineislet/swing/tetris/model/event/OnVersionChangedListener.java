@@ -0,0 +1,19 @@
+package com.pineislet.swing.tetris.model.event;
+
+import java.util.EventListener;
+
+/**
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface OnVersionChangedListener extends EventListener {
+
+    /**
+     *  状态版本号已增加（每次操作或推进结束后至多触发一次，在模型线程中调用，应尽快返回）
+     *
+     *  @param version 当前版本号
+     * */
+    void onVersionChanged(long version);
+
+}
@@ -0,0 +1,44 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Randomizer;
+
+/**
+ * 砖块随机生成器基类
+ * 使用基于计数器的 SplitMix64 算法，第 n 个随机数仅由种子和 n 决定，便于保存与还原状态
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public abstract class AbstractRandomizer implements Randomizer {
+
+    /**
+     *  SplitMix64 步长
+     * */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     *  随机种子
+     * */
+    protected long seed;
+
+    public AbstractRandomizer(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     *  获取第 index 个随机数对应的 [0, bound) 区间整数
+     * */
+    protected int randomInt(long index, int bound) {
+        long z = seed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) ((z >>> 1) % bound);
+    }
+}
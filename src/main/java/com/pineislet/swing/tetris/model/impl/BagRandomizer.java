@@ -0,0 +1,85 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 7-bag 砖块随机生成器
+ * 每 7 块为一组，组内包含全部 7 种砖块且乱序
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class BagRandomizer extends AbstractRandomizer {
+
+    /**
+     *  砖块种类数
+     * */
+    private static final int BAG_SIZE = 7;
+
+    /**
+     *  已生成砖块数
+     * */
+    private long counts;
+
+    /**
+     *  当前组编号及组内砖块顺序（由种子和组编号决定，按需重新计算）
+     * */
+    private long bagNumber;
+    private final int[] bag;
+
+    public BagRandomizer(long seed) {
+        super(seed);
+        bag = new int[BAG_SIZE];
+        reset(seed);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.BAG;
+    }
+
+    @Override
+    public void reset(long seed) {
+        this.seed = seed;
+        counts = 0;
+        bagNumber = -1;
+    }
+
+    @Override
+    public Tile next() {
+        long number = counts / BAG_SIZE;
+        if (number != bagNumber) {
+            shuffle(number);
+        }
+        Tile tile = Tile.getTile(bag[(int) (counts % BAG_SIZE)]);
+        counts++;
+        return tile;
+    }
+
+    @Override
+    public long getState() {
+        return counts;
+    }
+
+    @Override
+    public void setState(long state) {
+        counts = state;
+    }
+
+    /**
+     *  计算指定编号组的砖块顺序（Fisher-Yates 乱序）
+     * */
+    private void shuffle(long number) {
+        for (int i = 0; i < BAG_SIZE; i++) {
+            bag[i] = i;
+        }
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            int j = randomInt(number * BAG_SIZE + i, i + 1);
+            int temp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = temp;
+        }
+        bagNumber = number;
+    }
+}
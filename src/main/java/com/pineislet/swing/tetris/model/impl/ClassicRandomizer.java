@@ -0,0 +1,49 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 经典砖块随机生成器
+ * 每块独立等概率随机（无记忆）
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ClassicRandomizer extends AbstractRandomizer {
+
+    /**
+     *  已生成砖块数
+     * */
+    private long counts;
+
+    public ClassicRandomizer(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CLASSIC;
+    }
+
+    @Override
+    public void reset(long seed) {
+        this.seed = seed;
+        counts = 0;
+    }
+
+    @Override
+    public Tile next() {
+        return Tile.getTile(randomInt(counts++, 7));
+    }
+
+    @Override
+    public long getState() {
+        return counts;
+    }
+
+    @Override
+    public void setState(long state) {
+        counts = state;
+    }
+}
@@ -0,0 +1,133 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 命令队列（多生产者、单消费者，无锁）
+ * 有界环形队列，每个命令为 操作码 << 32 | 参数，并附带一个时间戳（如输入发生的时间）；生产者以 CAS 争用写入位置，
+ * 写入命令及时间戳后发布该槽位的序号，消费者按序号判断槽位是否可读，读取后归还槽位
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+class CommandQueue {
+
+    /**
+     *  队列为空时 poll 的返回值（操作码非负，不会与命令相同）
+     * */
+    static final long EMPTY = -1L;
+
+    /**
+     *  容量掩码
+     * */
+    private final int mask;
+
+    /**
+     *  命令、时间戳及槽位序号（序号等于写入位置时可写，等于写入位置 + 1 时可读）
+     * */
+    private final long[] commands;
+    private final long[] timestamps;
+    private final AtomicLongArray sequences;
+
+    /**
+     *  写入位置（生产者共享）
+     * */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     *  读取位置（仅消费者访问）
+     * */
+    private long head;
+
+    /**
+     *  最近一次取出命令的时间戳（仅消费者访问）
+     * */
+    private long polledTimestamp;
+
+    /**
+     *  构造方法
+     *
+     *  @param capacity 容量（2 的幂）
+     * */
+    CommandQueue(int capacity) {
+        if (capacity <= 0 || (capacity & capacity - 1) != 0) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.commands = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     *  提交命令（任意线程）
+     *
+     *  @param opcode 操作码（非负）
+     *  @param argument 参数
+     *  @param timestamp 时间戳（由消费者通过 getPolledTimestamp 读取）
+     *  @return 是否提交成功（队列已满时返回 false）
+     * */
+    boolean offer(int opcode, int argument, long timestamp) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    commands[index] = (long) opcode << 32 | (argument & 0xffffffffL);
+                    timestamps[index] = timestamp;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            }
+            else if (sequence < position) {
+                // 槽位尚未被消费者归还，队列已满
+                return false;
+            }
+        }
+    }
+
+    /**
+     *  取出命令（仅消费者线程）
+     *
+     *  @return 命令，队列为空时返回 EMPTY
+     * */
+    long poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return EMPTY;
+        }
+        long command = commands[index];
+        polledTimestamp = timestamps[index];
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return command;
+    }
+
+    /**
+     *  队列是否为空（仅消费者线程）
+     * */
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    /**
+     *  获取最近一次 poll 取出的命令附带的时间戳（仅消费者线程）
+     * */
+    long getPolledTimestamp() {
+        return polledTimestamp;
+    }
+
+    static int opcode(long command) {
+        return (int) (command >>> 32);
+    }
+
+    static int argument(long command) {
+        return (int) command;
+    }
+}
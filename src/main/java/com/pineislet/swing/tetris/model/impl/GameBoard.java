@@ -0,0 +1,309 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+import com.pineislet.swing.tetris.model.TileShape;
+
+import java.util.Arrays;
+
+/**
+ * 位棋盘（bitboard）
+ * 每行以一个 int 位掩码记录占用情况，冲突判定、锁定、消行均按行进行位运算；
+ * 行掩码的运算为包内静态方法，与搜索棋盘共用，本类在其上另外维护颜色矩阵
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class GameBoard {
+
+    /**
+     *  棋盘总行数（比游戏高度高出四格不予显示，仅用于计算判定）
+     * */
+    public static final int ROWS = TetrisModel.GAME_HEIGHT + 4;
+
+    /**
+     *  棋盘列数
+     * */
+    public static final int COLUMNS = TetrisModel.GAME_WIDTH;
+
+    /**
+     *  隐藏行数
+     * */
+    public static final int HIDDEN_ROWS = ROWS - TetrisModel.GAME_HEIGHT;
+
+    /**
+     *  第 0 列在行掩码中的位偏移（两侧留出墙壁位，砖块越界即与墙壁冲突）
+     * */
+    static final int PADDING = 4;
+
+    /**
+     *  最大位移量（保证 4 位宽的砖块行掩码移位后不溢出）
+     * */
+    static final int MAX_SHIFT = Integer.SIZE - 4;
+
+    /**
+     *  游戏区域掩码
+     * */
+    static final int FIELD_MASK = ((1 << COLUMNS) - 1) << PADDING;
+
+    /**
+     *  空行（仅含墙壁位）
+     * */
+    static final int EMPTY_ROW = ~FIELD_MASK;
+
+    /**
+     *  满行（墙壁位与游戏区域全部占用）
+     * */
+    static final int FULL_ROW = -1;
+
+    /**
+     *  行掩码
+     * */
+    private final int[] rows;
+
+    /**
+     *  颜色矩阵（记录每格砖块种类，仅用于显示）
+     * */
+    private final int[][] cells;
+
+    /**
+     *  消行时暂存被消除行的颜色数组，避免重新分配
+     * */
+    private final int[][] spareCells;
+
+    /**
+     *  最近一次消除的行（第 i 位对应消除前的第 i 行，包括隐藏行）
+     * */
+    private int clearedRows;
+
+    /**
+     *  构造方法
+     * */
+    public GameBoard() {
+        rows = new int[ROWS];
+        cells = new int[ROWS][COLUMNS];
+        spareCells = new int[ROWS][];
+        clear();
+    }
+
+    /**
+     *  清空棋盘
+     * */
+    public void clear() {
+        Arrays.fill(rows, EMPTY_ROW);
+        for (int[] row : cells) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    /**
+     *  复制另一棋盘的全部内容
+     *
+     *  @param other 源棋盘
+     * */
+    public void copyFrom(GameBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            System.arraycopy(other.cells[i], 0, cells[i], 0, COLUMNS);
+        }
+    }
+
+    /**
+     *  判断砖块在指定位置是否存在冲突
+     *
+     *  @param tile 砖块
+     *  @param direction 砖块方向
+     *  @param x 砖块左上角列号
+     *  @param y 砖块左上角行号
+     *  @return 是否存在冲突
+     * */
+    public boolean hasConflict(Tile tile, Direction direction, int x, int y) {
+        return hasConflict(rows, tile, direction, x, y);
+    }
+
+    /**
+     *  将砖块锁定到指定位置（越界部分忽略）
+     *
+     *  @param tile 砖块
+     *  @param direction 砖块方向
+     *  @param x 砖块左上角列号
+     *  @param y 砖块左上角行号
+     * */
+    public void lockTile(Tile tile, Direction direction, int x, int y) {
+        lockRows(rows, tile, direction, x, y);
+        // 记录颜色
+        TileShape shape = tile.getShape(direction);
+        for (int k = 0; k < shape.getCellCounts(); k++) {
+            int row = y + shape.getCellRow(k);
+            int column = x + shape.getCellColumn(k);
+            if (row >= 0 && row < ROWS && column >= 0 && column < COLUMNS) {
+                cells[row][column] = shape.getValue();
+            }
+        }
+    }
+
+    /**
+     *  消除满行
+     *
+     *  @return 消除行数
+     * */
+    public int clearLines() {
+        clearedRows = clearRows(rows);
+        if (clearedRows == 0) {
+            return 0;
+        }
+        // 颜色数组按相同的行自下而上压缩
+        int lineCounts = 0;
+        int write = ROWS - 1;
+        for (int read = ROWS - 1; read >= 0; read--) {
+            if ((clearedRows >>> read & 1) != 0) {
+                spareCells[lineCounts++] = cells[read];
+            }
+            else {
+                cells[write--] = cells[read];
+            }
+        }
+        // 顶部补充空行
+        for (int i = 0; i < lineCounts; i++) {
+            cells[i] = spareCells[i];
+            Arrays.fill(cells[i], 0);
+            spareCells[i] = null;
+        }
+        return lineCounts;
+    }
+
+    /**
+     *  获取最近一次 clearLines 消除的行
+     *
+     *  @return 行掩码，第 i 位对应消除前的第 i 行（包括隐藏行）
+     * */
+    public int getClearedRows() {
+        return clearedRows;
+    }
+
+    /**
+     *  获取指定格子的砖块种类
+     *
+     *  @param row 行号（包括隐藏行）
+     *  @param column 列号
+     *  @return 砖块种类（0 为空）
+     * */
+    public int getCell(int row, int column) {
+        return cells[row][column];
+    }
+
+    /**
+     *  获取指定行的占用掩码，第 j 列对应第 j 位
+     *
+     *  @param row 行号（包括隐藏行）
+     *  @return 行掩码
+     * */
+    public int getRowMask(int row) {
+        return (rows[row] & FIELD_MASK) >>> PADDING;
+    }
+
+    /**
+     *  判断砖块在行掩码中的指定位置是否存在冲突（与搜索棋盘共用，下同）
+     *
+     *  @param rows 行掩码（ROWS 行，含墙壁位）
+     * */
+    static boolean hasConflict(int[] rows, Tile tile, Direction direction, int x, int y) {
+        int shift = x + PADDING;
+        // 整体越过左右边界
+        if (shift < 0 || shift > MAX_SHIFT) {
+            return true;
+        }
+        TileShape shape = tile.getShape(direction);
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            int row = y + i;
+            // 越过下边界
+            if (row >= ROWS) {
+                return true;
+            }
+            // 上边界以外仅判定左右边界
+            int boardRow = row < 0 ? EMPTY_ROW : rows[row];
+            if ((boardRow & (shape.getRowMask(i) << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  将砖块锁定到行掩码中（越界部分忽略）
+     * */
+    static void lockRows(int[] rows, Tile tile, Direction direction, int x, int y) {
+        int shift = x + PADDING;
+        if (shift < 0 || shift > MAX_SHIFT) {
+            return;
+        }
+        TileShape shape = tile.getShape(direction);
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            int row = y + i;
+            if (row >= 0 && row < ROWS) {
+                rows[row] |= (shape.getRowMask(i) << shift) & FIELD_MASK;
+            }
+        }
+    }
+
+    /**
+     *  从行掩码中移除 lockRows 锁定的砖块（锁定前这些格子必为空）
+     * */
+    static void unlockRows(int[] rows, Tile tile, Direction direction, int x, int y) {
+        int shift = x + PADDING;
+        if (shift < 0 || shift > MAX_SHIFT) {
+            return;
+        }
+        TileShape shape = tile.getShape(direction);
+        for (int i = shape.getMinRow(); i <= shape.getMaxRow(); i++) {
+            int row = y + i;
+            if (row >= 0 && row < ROWS) {
+                rows[row] &= ~((shape.getRowMask(i) << shift) & FIELD_MASK);
+            }
+        }
+    }
+
+    /**
+     *  消除行掩码中的满行，自下而上压缩非满行，顶部补充空行
+     *
+     *  @return 被消除的行，第 i 位对应消除前的第 i 行
+     * */
+    static int clearRows(int[] rows) {
+        int clearedRows = 0;
+        int write = ROWS - 1;
+        for (int read = ROWS - 1; read >= 0; read--) {
+            if (rows[read] == FULL_ROW) {
+                clearedRows |= 1 << read;
+            }
+            else {
+                rows[write--] = rows[read];
+            }
+        }
+        while (write >= 0) {
+            rows[write--] = EMPTY_ROW;
+        }
+        return clearedRows;
+    }
+
+    /**
+     *  还原 clearRows 消除的满行
+     *  消行时每行下移其下方被消除的行数，自上而下逐行取回即可（来源行总在目标行下方，不会被提前覆盖）
+     *
+     *  @param clearedRows clearRows 的返回值
+     * */
+    static void restoreRows(int[] rows, int clearedRows) {
+        if (clearedRows == 0) {
+            return;
+        }
+        for (int row = 0; row < ROWS; row++) {
+            if ((clearedRows >>> row & 1) != 0) {
+                rows[row] = FULL_ROW;
+            }
+            else {
+                rows[row] = rows[row + Integer.bitCount(clearedRows >>> row)];
+            }
+        }
+    }
+}
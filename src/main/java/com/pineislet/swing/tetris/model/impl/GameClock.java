@@ -0,0 +1,23 @@
+package com.pineislet.swing.tetris.model.impl;
+
+/**
+ * 游戏时钟
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface GameClock {
+
+    /**
+     *  系统时钟（System.nanoTime）
+     * */
+    GameClock SYSTEM = System::nanoTime;
+
+    /**
+     *  获取当前时间
+     *
+     *  @return 当前时间（纳秒，仅用于计算时间差）
+     * */
+    long nanoTime();
+}
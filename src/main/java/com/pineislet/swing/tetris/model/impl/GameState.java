@@ -0,0 +1,65 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 游戏状态存档
+ * 可重复使用的可变对象，由 TetrisModelImpl.saveState 写入、restoreState 读取，用于回放关键帧
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class GameState {
+
+    final GameBoard gameBoard = new GameBoard();
+    final TileQueue tileQueue = new TileQueue(TetrisModelImpl.TILE_QUEUE_CAPACITY);
+
+    TetrisModel.GameStatus gameStatus;
+    int speedLevel;
+    int sensitivityLevel;
+
+    Tile currentTile;
+    Direction direction;
+    int x;
+    int y;
+    Tile holdTile;
+
+    long randomizerSeed;
+    long randomizerState;
+
+    boolean softDownFlag;
+    boolean moveLeftFlag;
+    boolean moveRightFlag;
+    int moveCounter;
+    boolean moveRepeated;
+    int holdCounter;
+    int downCounter;
+    int lockCounter;
+    int hardLockCounter;
+
+    long clockNanos;
+    long accumulateNanos;
+    long gameNanos;
+
+    int score;
+    int lines;
+    int tileCounts;
+    long ticks;
+
+    /**
+     *  获取存档时的游戏推进次数
+     * */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     *  获取存档时已锁定砖块数
+     * */
+    public int getTileCounts() {
+        return tileCounts;
+    }
+}
@@ -0,0 +1,104 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 历史砖块随机生成器
+ * 记录最近 4 块砖块，随机结果与历史重复时重新随机，最多尝试 4 次；首块不为 S、Z、O
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class HistoryRandomizer extends AbstractRandomizer {
+
+    /**
+     *  历史长度、最大尝试次数
+     * */
+    private static final int HISTORY_SIZE = 4;
+    private static final int ROLLS = 4;
+
+    /**
+     *  每个历史砖块占用位数及初始历史（全部为 Z）
+     * */
+    private static final int HISTORY_BITS = 3;
+    private static final int HISTORY_MASK = (1 << (HISTORY_BITS * HISTORY_SIZE)) - 1;
+    private static final int INITIAL_HISTORY = 0x249 * Tile.Z.ordinal();
+
+    /**
+     *  已使用随机数个数
+     * */
+    private long counts;
+
+    /**
+     *  最近砖块历史（每 3 位一个砖块编号，低位为最近）
+     * */
+    private int history;
+
+    /**
+     *  是否为首块
+     * */
+    private boolean first;
+
+    public HistoryRandomizer(long seed) {
+        super(seed);
+        reset(seed);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.HISTORY;
+    }
+
+    @Override
+    public void reset(long seed) {
+        this.seed = seed;
+        counts = 0;
+        history = INITIAL_HISTORY;
+        first = true;
+    }
+
+    @Override
+    public Tile next() {
+        Tile tile;
+        if (first) {
+            // 首块不为 S、Z、O
+            do {
+                tile = Tile.getTile(randomInt(counts++, 7));
+            } while (tile == Tile.S || tile == Tile.Z || tile == Tile.O);
+            first = false;
+        }
+        else {
+            tile = Tile.getTile(randomInt(counts++, 7));
+            for (int i = 1; i < ROLLS && inHistory(tile); i++) {
+                tile = Tile.getTile(randomInt(counts++, 7));
+            }
+        }
+        history = ((history << HISTORY_BITS) | tile.ordinal()) & HISTORY_MASK;
+        return tile;
+    }
+
+    @Override
+    public long getState() {
+        return (counts << (HISTORY_BITS * HISTORY_SIZE + 1)) | ((long) history << 1) | (first ? 1 : 0);
+    }
+
+    @Override
+    public void setState(long state) {
+        first = (state & 1) != 0;
+        history = (int) (state >>> 1) & HISTORY_MASK;
+        counts = state >>> (HISTORY_BITS * HISTORY_SIZE + 1);
+    }
+
+    /**
+     *  判断砖块是否在历史中
+     * */
+    private boolean inHistory(Tile tile) {
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            if (((history >>> (i * HISTORY_BITS)) & 7) == tile.ordinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Randomizer;
+
+/**
+ * 砖块随机生成器工厂
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public final class Randomizers {
+
+    private Randomizers() {
+    }
+
+    /**
+     *  创建指定类型及种子的生成器
+     *
+     *  @param type 生成器类型
+     *  @param seed 随机种子
+     *  @return 生成器
+     * */
+    public static Randomizer create(Randomizer.Type type, long seed) {
+        switch (type) {
+            case CLASSIC:
+                return new ClassicRandomizer(seed);
+            case HISTORY:
+                return new HistoryRandomizer(seed);
+            case BAG:
+                return new BagRandomizer(seed);
+            default:
+                throw new IllegalArgumentException("unknown randomizer type: " + type);
+        }
+    }
+}
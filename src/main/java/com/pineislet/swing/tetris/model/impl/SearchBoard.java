@@ -0,0 +1,303 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Placement;
+import com.pineislet.swing.tetris.model.Tile;
+
+import java.util.Arrays;
+
+/**
+ * 搜索棋盘
+ * 供机器人搜索落点：apply 放置一块砖块（锁定、消行、计分、推进砖块队列）并返回撤销标记，undo 按标记原样还原；
+ * 只记录行掩码（不记录颜色，冲突判定、锁定、消行与 GameBoard 共用行掩码运算），撤销记录存于预先分配的基本类型数组中，搜索过程不分配内存，可在同一棋盘上就地深度优先搜索
+ *
+ * 砖块以目标方向出现在出现行、目标列，直落到底（不模拟移动路径及踢墙）
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class SearchBoard {
+
+    /**
+     *  apply 失败时的返回值
+     * */
+    public static final int INVALID_TOKEN = -1;
+
+    /**
+     *  砖块序号缓存
+     * */
+    private static final Tile[] TILES = Tile.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     *  行掩码（与 GameBoard 相同，含墙壁位）
+     * */
+    private final int[] rows = new int[GameBoard.ROWS];
+
+    /**
+     *  砖块队列（当前砖块之后的砖块）及下一个取用位置
+     * */
+    private final Tile[] queue;
+    private int queueSize;
+    private int queueIndex;
+
+    /**
+     *  当前砖块、hold区砖块及是否已 hold（当前砖块由 hold 换出时不可再 hold）
+     * */
+    private Tile currentTile;
+    private Tile holdTile;
+    private boolean holdUsed;
+
+    /**
+     *  得分及已消除行数
+     * */
+    private int score;
+    private int lines;
+
+    /**
+     *  撤销记录（按深度，apply 前的状态及本次放置）
+     * */
+    private final byte[] undoCurrentTile;
+    private final byte[] undoHoldTile;
+    private final boolean[] undoHoldUsed;
+    private final int[] undoQueueIndex;
+    private final int[] undoScore;
+    private final int[] undoLines;
+    private final byte[] undoPlacedTile;
+    private final byte[] undoDirection;
+    private final int[] undoX;
+    private final int[] undoY;
+    private final int[] undoClearedRows;
+    private int depth;
+
+    /**
+     *  构造方法
+     *
+     *  @param maxDepth 最大搜索深度（连续 apply 而未 undo 的次数）
+     * */
+    public SearchBoard(int maxDepth) {
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("maxDepth must be positive: " + maxDepth);
+        }
+        // 每次放置至多消耗两块（hold 区为空时 hold）
+        queue = new Tile[TetrisModelImpl.TILE_QUEUE_CAPACITY + 2 * maxDepth];
+        undoCurrentTile = new byte[maxDepth];
+        undoHoldTile = new byte[maxDepth];
+        undoHoldUsed = new boolean[maxDepth];
+        undoQueueIndex = new int[maxDepth];
+        undoScore = new int[maxDepth];
+        undoLines = new int[maxDepth];
+        undoPlacedTile = new byte[maxDepth];
+        undoDirection = new byte[maxDepth];
+        undoX = new int[maxDepth];
+        undoY = new int[maxDepth];
+        undoClearedRows = new int[maxDepth];
+        Arrays.fill(rows, GameBoard.EMPTY_ROW);
+    }
+
+    /**
+     *  从存档载入（棋盘、当前砖块、后续砖块、hold区、得分），清空撤销记录
+     *
+     *  @param state 由 TetrisModelImpl.saveState 写入的存档
+     * */
+    public void load(GameState state) {
+        for (int row = 0; row < GameBoard.ROWS; row++) {
+            rows[row] = GameBoard.EMPTY_ROW | state.gameBoard.getRowMask(row) << GameBoard.PADDING;
+        }
+        queueSize = Math.min(state.tileQueue.size(), queue.length);
+        for (int i = 0; i < queueSize; i++) {
+            queue[i] = state.tileQueue.get(i);
+        }
+        queueIndex = 0;
+        currentTile = state.currentTile;
+        holdTile = state.holdTile;
+        holdUsed = state.holdCounter != 0;
+        score = state.score;
+        lines = state.lines;
+        depth = 0;
+    }
+
+    /**
+     *  在队尾追加砖块（如按 7-bag 推断的后续砖块）
+     *
+     *  @return 是否追加成功（队列已满时失败）
+     * */
+    public boolean addTile(Tile tile) {
+        if (queueSize == queue.length) {
+            return false;
+        }
+        queue[queueSize++] = tile;
+        return true;
+    }
+
+    /**
+     *  判断砖块在指定位置是否存在冲突（与 GameBoard.hasConflict 相同）
+     * */
+    public boolean hasConflict(Tile tile, Direction direction, int x, int y) {
+        return GameBoard.hasConflict(rows, tile, direction, x, y);
+    }
+
+    /**
+     *  计算砖块从出现行直落后的左上角行号
+     *
+     *  @return 行号，出现位置即冲突时返回 -1
+     * */
+    public int getDropRow(Tile tile, Direction direction, int x) {
+        int y = TetrisModelImpl.SPAWN_Y;
+        if (hasConflict(tile, direction, x, y)) {
+            return -1;
+        }
+        while (!hasConflict(tile, direction, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     *  放置当前砖块（先 hold 时放置换出的砖块），随后消除满行、计分并取出下一砖块
+     *
+     *  @param placement 落点
+     *  @return 撤销标记，落点不可用（无当前砖块、不可 hold、出现位置冲突、队列不足）或已达最大深度时返回 INVALID_TOKEN
+     * */
+    public int apply(Placement placement) {
+        if (null == currentTile || depth == undoScore.length) {
+            return INVALID_TOKEN;
+        }
+        // 确定放置的砖块及之后的队列位置
+        Tile tile = currentTile;
+        int nextIndex = queueIndex;
+        if (placement.isHold()) {
+            if (holdUsed) {
+                return INVALID_TOKEN;
+            }
+            if (null != holdTile) {
+                tile = holdTile;
+            }
+            else if (nextIndex < queueSize) {
+                tile = queue[nextIndex++];
+            }
+            else {
+                return INVALID_TOKEN;
+            }
+        }
+        Direction direction = placement.getDirection();
+        int x = placement.getX();
+        int y = getDropRow(tile, direction, x);
+        if (y < 0) {
+            return INVALID_TOKEN;
+        }
+
+        // 记录撤销信息
+        int token = depth++;
+        undoCurrentTile[token] = (byte) currentTile.ordinal();
+        undoHoldTile[token] = (byte) (null == holdTile ? -1 : holdTile.ordinal());
+        undoHoldUsed[token] = holdUsed;
+        undoQueueIndex[token] = queueIndex;
+        undoScore[token] = score;
+        undoLines[token] = lines;
+        undoPlacedTile[token] = (byte) tile.ordinal();
+        undoDirection[token] = (byte) direction.ordinal();
+        undoX[token] = x;
+        undoY[token] = y;
+
+        // 锁定、消行、计分
+        GameBoard.lockRows(rows, tile, direction, x, y);
+        int clearedRows = GameBoard.clearRows(rows);
+        undoClearedRows[token] = clearedRows;
+        int lineCounts = Integer.bitCount(clearedRows);
+        lines += lineCounts;
+        score += TetrisModelImpl.getLineScore(lineCounts);
+
+        // 更新hold区及当前砖块
+        if (placement.isHold()) {
+            holdTile = currentTile;
+        }
+        currentTile = nextIndex < queueSize ? queue[nextIndex++] : null;
+        queueIndex = nextIndex;
+        holdUsed = false;
+        return token;
+    }
+
+    /**
+     *  撤销至 apply 返回 token 之前的状态（token 之后的放置一并撤销）
+     *
+     *  @param token apply 返回的撤销标记
+     * */
+    public void undo(int token) {
+        if (token < 0 || token >= depth) {
+            throw new IllegalArgumentException("invalid undo token: " + token + ", depth: " + depth);
+        }
+        while (depth > token) {
+            int i = --depth;
+            GameBoard.restoreRows(rows, undoClearedRows[i]);
+            GameBoard.unlockRows(rows, TILES[undoPlacedTile[i]], DIRECTIONS[undoDirection[i]], undoX[i], undoY[i]);
+            currentTile = TILES[undoCurrentTile[i]];
+            holdTile = undoHoldTile[i] < 0 ? null : TILES[undoHoldTile[i]];
+            holdUsed = undoHoldUsed[i];
+            queueIndex = undoQueueIndex[i];
+            score = undoScore[i];
+            lines = undoLines[i];
+        }
+    }
+
+    /**
+     *  出现位置是否冲突（即放置当前砖块后游戏结束）
+     * */
+    public boolean isOver() {
+        return null != currentTile
+                && hasConflict(currentTile, Direction.NORTH, TetrisModelImpl.SPAWN_X, TetrisModelImpl.SPAWN_Y);
+    }
+
+    /**
+     *  获取指定行的占用掩码，第 j 列对应第 j 位
+     *
+     *  @param row 行号（包括隐藏行）
+     * */
+    public int getRowMask(int row) {
+        return (rows[row] & GameBoard.FIELD_MASK) >>> GameBoard.PADDING;
+    }
+
+    /**
+     *  获取当前砖块（队列耗尽时为 null）
+     * */
+    public Tile getCurrentTile() {
+        return currentTile;
+    }
+
+    public Tile getHoldTile() {
+        return holdTile;
+    }
+
+    /**
+     *  当前砖块能否 hold
+     * */
+    public boolean canHold() {
+        return !holdUsed && (null != holdTile || queueIndex < queueSize);
+    }
+
+    /**
+     *  获取当前砖块之后的第 index 个砖块
+     *
+     *  @return 砖块，越界时返回 null
+     * */
+    public Tile getFollowingTile(int index) {
+        int i = queueIndex + index;
+        return index >= 0 && i < queueSize ? queue[i] : null;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     *  获取当前深度（未撤销的放置次数）
+     * */
+    public int getDepth() {
+        return depth;
+    }
+}
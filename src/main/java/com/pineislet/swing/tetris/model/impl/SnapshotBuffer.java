@@ -0,0 +1,167 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.GameSnapshot;
+import com.pineislet.swing.tetris.model.Tile;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 快照双缓冲（单写入方、多读取方，顺序锁）
+ * 两个预分配的快照交替写入：写入方持有未发布缓冲区的写锁写入后再将其发布，读取方对最近发布的缓冲区乐观读（不获取锁），
+ * 复制后校验版本戳，期间该缓冲区被再次写入（写入方已连续发布两次）时重试；发布不分配内存，读取方永远不阻塞写入方
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+class SnapshotBuffer {
+
+    /**
+     *  快照缓冲区及各自的顺序锁
+     * */
+    private final GameSnapshot[] snapshots = {new GameSnapshot(), new GameSnapshot()};
+    private final StampedLock[] locks = {new StampedLock(), new StampedLock()};
+
+    /**
+     *  最近发布的缓冲区序号
+     * */
+    private volatile int published;
+
+    /**
+     *  正在写入的缓冲区的写锁版本戳（仅写入方访问）
+     * */
+    private long writeStamp;
+
+    /**
+     *  开始写入（仅写入方），须随后调用 publish
+     *
+     *  @return 未发布的缓冲区
+     * */
+    GameSnapshot beginWrite() {
+        int index = published ^ 1;
+        writeStamp = locks[index].writeLock();
+        return snapshots[index];
+    }
+
+    /**
+     *  发布 beginWrite 返回的缓冲区（仅写入方）
+     * */
+    void publish() {
+        int index = published ^ 1;
+        locks[index].unlockWrite(writeStamp);
+        published = index;
+    }
+
+    /**
+     *  将最近发布的快照复制至 target（target 调用前的版本号与之相同时不复制）
+     * */
+    void read(GameSnapshot target) {
+        // 校验失败时 target 已被写入不完整的内容（版本号随之改变），重试时须以调用前的版本号判断是否复制
+        long knownVersion = target.getVersion();
+        while (true) {
+            int index = published;
+            StampedLock lock = locks[index];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                GameSnapshot snapshot = snapshots[index];
+                if (snapshot.getVersion() != knownVersion) {
+                    target.copyFrom(snapshot);
+                }
+                if (lock.validate(stamp)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     *  将最近发布的显示矩阵复制至 buffer（版本号与 knownVersion 相同时不复制）
+     *
+     *  @return 缓冲区内容对应的版本号
+     * */
+    long readCells(int[] buffer, long knownVersion) {
+        while (true) {
+            int index = published;
+            StampedLock lock = locks[index];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                GameSnapshot snapshot = snapshots[index];
+                long version = snapshot.getVersion();
+                if (version != knownVersion) {
+                    snapshot.copyCells(buffer);
+                }
+                if (lock.validate(stamp)) {
+                    return version;
+                }
+            }
+        }
+    }
+
+    /**
+     *  读取最近发布的第 index 个后续砖块
+     * */
+    Tile readFollowingTile(int index) {
+        while (true) {
+            int slot = published;
+            StampedLock lock = locks[slot];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Tile tile = snapshots[slot].getFollowingTile(index);
+                if (lock.validate(stamp)) {
+                    return tile;
+                }
+            }
+        }
+    }
+
+    /**
+     *  读取最近发布的hold区砖块
+     * */
+    Tile readHoldTile() {
+        while (true) {
+            int index = published;
+            StampedLock lock = locks[index];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Tile tile = snapshots[index].getHoldTile();
+                if (lock.validate(stamp)) {
+                    return tile;
+                }
+            }
+        }
+    }
+
+    /**
+     *  读取最近发布的得分
+     * */
+    int readScore() {
+        while (true) {
+            int index = published;
+            StampedLock lock = locks[index];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                int score = snapshots[index].getScore();
+                if (lock.validate(stamp)) {
+                    return score;
+                }
+            }
+        }
+    }
+
+    /**
+     *  读取最近发布的已消除行数
+     * */
+    int readLines() {
+        while (true) {
+            int index = published;
+            StampedLock lock = locks[index];
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                int lines = snapshots[index].getLines();
+                if (lock.validate(stamp)) {
+                    return lines;
+                }
+            }
+        }
+    }
+}
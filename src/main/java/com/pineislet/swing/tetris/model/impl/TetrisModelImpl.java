@@ -1,17 +1,26 @@
 package com.pineislet.swing.tetris.model.impl;
 
 import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.GameSnapshot;
+import com.pineislet.swing.tetris.model.InputAction;
+import com.pineislet.swing.tetris.model.Randomizer;
 import com.pineislet.swing.tetris.model.TetrisModel;
 import com.pineislet.swing.tetris.model.Tile;
+import com.pineislet.swing.tetris.model.TileShape;
+import com.pineislet.swing.tetris.model.event.GameEvent;
+import com.pineislet.swing.tetris.model.event.OnGameEventListener;
+import com.pineislet.swing.tetris.model.event.OnInputActionListener;
+import com.pineislet.swing.tetris.model.event.OnInputAppliedListener;
 import com.pineislet.swing.tetris.model.event.OnStatusChangedListener;
 import com.pineislet.swing.tetris.model.event.OnTileModifiedListener;
+import com.pineislet.swing.tetris.model.event.OnVersionChangedListener;
 import com.pineislet.swing.tetris.model.event.StatusChangedEvent;
 import com.pineislet.swing.tetris.model.event.TileModifiedEvent;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * @author Yasenia
@@ -24,15 +33,94 @@ public class TetrisModelImpl implements TetrisModel {
      * */
     public static final int ATOMIC_TIME = 20;
 
+    /**
+     *  原子时间单位（纳秒）
+     * */
+    private static final long ATOMIC_NANOS = ATOMIC_TIME * 1000000L;
+
+    /**
+     *  单次唤醒最多追赶的推进次数（超出部分直接丢弃，避免长时间卡顿后连续推进）
+     * */
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    /**
+     *  砖块出现时的左上角位置
+     * */
+    static final int SPAWN_X = 3;
+    static final int SPAWN_Y = 0;
+
+    /**
+     *  砖块队列容量（后续砖块加当前砖块及hold交换）
+     * */
+    static final int TILE_QUEUE_CAPACITY = FOLLOW_TILE_COUNTS + 2;
+
+    /**
+     *  命令队列容量
+     * */
+    private static final int COMMAND_QUEUE_CAPACITY = 1024;
+
+    /**
+     *  命令队列已满时提交方的挂起间隔（纳秒，自最小值起逐次加倍至最大值）及输入命令的最长等待时间
+     * */
+    private static final long MIN_SUBMIT_BACKOFF_NANOS = 50_000L;
+    private static final long MAX_SUBMIT_BACKOFF_NANOS = 1_000_000L;
+    private static final long MAX_SUBMIT_WAIT_NANOS = 100_000_000L;
+
+    /**
+     *  未附带输入时间的命令的时间戳
+     * */
+    private static final long NO_INPUT_NANOS = Long.MIN_VALUE;
+
+    /**
+     *  切换游戏状态命令的操作码（参数为游戏状态序号，与输入动作的操作码不重叠）
+     * */
+    private static final int CHANGE_STATUS_OPCODE = 0x100;
+
+    /**
+     *  游戏状态缓存（避免 values() 复制数组）
+     * */
+    private static final GameStatus[] GAME_STATUSES = GameStatus.values();
+
     /**
      *  砖块切换监听器列表
      * */
-    private List<OnTileModifiedListener> onTileModifiedListenerList;
+    private final CopyOnWriteArrayList<OnTileModifiedListener> onTileModifiedListenerList = new CopyOnWriteArrayList<>();
 
     /**
      *  游戏状态改变监听器列表
      * */
-    private List<OnStatusChangedListener> onStatusChangedListenerList;
+    private final CopyOnWriteArrayList<OnStatusChangedListener> onStatusChangedListenerList = new CopyOnWriteArrayList<>();
+
+    /**
+     *  输入动作监听器列表
+     * */
+    private final CopyOnWriteArrayList<OnInputActionListener> onInputActionListenerList = new CopyOnWriteArrayList<>();
+
+    /**
+     *  输入生效监听器列表
+     * */
+    private final CopyOnWriteArrayList<OnInputAppliedListener> onInputAppliedListenerList = new CopyOnWriteArrayList<>();
+
+    /**
+     *  状态版本号改变监听器列表
+     * */
+    private final CopyOnWriteArrayList<OnVersionChangedListener> onVersionChangedListenerList = new CopyOnWriteArrayList<>();
+
+    /**
+     *  游戏事件监听器列表
+     * */
+    private final CopyOnWriteArrayList<OnGameEventListener> onGameEventListenerList = new CopyOnWriteArrayList<>();
+
+    /**
+     *  游戏事件对象池（按监听器中嵌套触发的深度复用，超出深度时临时创建）
+     * */
+    private final GameEvent[] gameEventPool = {new GameEvent(), new GameEvent(), new GameEvent(), new GameEvent()};
+    private int gameEventDepth;
+
+    /**
+     *  砖块切换事件（无负载，复用同一对象）
+     * */
+    private final TileModifiedEvent tileModifiedEvent = new TileModifiedEvent(this);
 
     /**
      *  速度控制常量（对应速度级别0——9）
@@ -44,11 +132,17 @@ public class TetrisModelImpl implements TetrisModel {
      * */
     private static final int[] SENSITIVITY_CONST = {17, 14, 11, 9, 7, 5, 4, 3, 2, 1};
 
+    /**
+     *  旋转自适应调整偏移量（I 型砖块及其它砖块）
+     * */
+    private static final int[] I_ADAPT_OFFSETS = {0, -1, 1, -2, 2};
+    private static final int[] ADAPT_OFFSETS = {0, -1, 1};
+
 
     /**
      *  游戏状态
      * */
-    private GameStatus gameStatus;
+    private volatile GameStatus gameStatus;
 
     /**
      *  速度等级
@@ -61,9 +155,9 @@ public class TetrisModelImpl implements TetrisModel {
     private int sensitivityLevel;
 
     /**
-     *  游戏基矩阵（记录已有砖块信息）
+     *  游戏棋盘（记录已有砖块信息）
      * */
-    private int[][] gameBaseMatrix;
+    private GameBoard gameBoard;
 
     /**
      *  当前砖块
@@ -84,7 +178,17 @@ public class TetrisModelImpl implements TetrisModel {
     /**
      *  后续砖块队列
      * */
-    private List<Tile> tileList;
+    private TileQueue tileQueue;
+
+    /**
+     *  砖块随机生成器
+     * */
+    private final Randomizer randomizer;
+
+    /**
+     *  随机种子生成器（为空时每局游戏使用相同种子）
+     * */
+    private final SplittableRandom seedGenerator;
 
     /**
      *  hold区砖块
@@ -94,7 +198,7 @@ public class TetrisModelImpl implements TetrisModel {
     /**
      *  软降标识
      * */
-    private boolean softDownFlag;
+    private volatile boolean softDownFlag;
 
     /**
      *  hold计数器
@@ -127,35 +231,82 @@ public class TetrisModelImpl implements TetrisModel {
     private int hardLockCounter;
 
     /**
-     *  累积时间
+     *  游戏时钟（实时模式为系统时钟，无界面模式为虚拟时钟）
      * */
-    private Duration accumulateTime;
+    private final GameClock clock;
 
     /**
-     *  游戏时间戳
+     *  无界面模式标识
+     *  无界面模式下不创建游戏线程，由调用方通过 step 推进游戏
      * */
-    private Instant gameInstant;
+    private final boolean headless;
+
+    /**
+     *  累积时间（纳秒）
+     * */
+    private long accumulateNanos;
+
+    /**
+     *  游戏时间戳（纳秒，最近一次进入游戏中状态的时间）
+     * */
+    private long gameNanos;
 
     /**
      *  游戏得分
      * */
     private int score;
 
+    /**
+     *  已消除行数
+     * */
+    private int lines;
+
+    /**
+     *  本局已锁定砖块数
+     * */
+    private int tileCounts;
+
+    /**
+     *  本局游戏推进次数
+     * */
+    private volatile long ticks;
+
+    /**
+     *  状态版本号（任何影响显示的状态改变后自增）
+     * */
+    private volatile long version;
+
+    /**
+     *  最近一次通知监听器的版本号
+     * */
+    private long publishedVersion;
+
+    /**
+     *  已发布的状态快照（实时模式在每次发布版本号时写入，无界面模式在读取时按需生成）
+     * */
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+
+    /**
+     *  生成快照用的显示矩阵及后续砖块缓冲区（由写入方使用，或持有锁时使用）
+     * */
+    private final int[] displayScratch = new int[GAME_HEIGHT * GAME_WIDTH];
+    private final Tile[] followingScratch = new Tile[FOLLOW_TILE_COUNTS];
+
     /**
      *  游戏核心线程
-     *  控制游戏推进
+     *  控制游戏推进，并在两次推进之间执行命令队列中的输入及状态切换（线程启动后为游戏状态的唯一写入者，推进及执行命令均不获取锁）
      * */
-    private TetrisMainThread tetrisMainThread;
+    private volatile TetrisMainThread tetrisMainThread;
 
     /**
-     *  左移状态标识
+     *  命令队列（输入线程提交，游戏核心线程执行）
      * */
-    private boolean moveLeftFlag;
+    private final CommandQueue commandQueue = new CommandQueue(COMMAND_QUEUE_CAPACITY);
 
     /**
-     *  左移控制线程
+     *  左移状态标识
      * */
-    private TetrisMoveThread moveLeftThread;
+    private boolean moveLeftFlag;
 
     /**
      *  右移状态标识
@@ -163,16 +314,52 @@ public class TetrisModelImpl implements TetrisModel {
     private boolean moveRightFlag;
 
     /**
-     *  右移控制线程
+     *  持续移动计数标识
+     *  游戏每推进一次，持续移动计数自增1，当计数到达阀值，执行一次移动
+     *  移动阀值由敏感度级别决定，第一次重复移动阀值为后续阀值两倍（左右同时持续移动时共用同一计数）
+     * */
+    private int moveCounter;
+
+    /**
+     *  持续移动是否已发生重复移动
      * */
-    private TetrisMoveThread moveRightThread;
+    private boolean moveRepeated;
 
     /**
-     *  构造方法
+     *  构造方法（实时模式，7-bag 随机，每局游戏随机种子）
      * */
     public TetrisModelImpl() {
-        // 初始化游戏基矩阵（比游戏高度高出四格不予显示，仅用于计算判定）
-        gameBaseMatrix = new int[GAME_HEIGHT + 4][GAME_WIDTH];
+        this(false);
+    }
+
+    /**
+     *  构造方法（7-bag 随机，每局游戏随机种子）
+     *
+     *  @param headless 是否为无界面模式（使用虚拟时钟，由 step 推进游戏）
+     * */
+    public TetrisModelImpl(boolean headless) {
+        this(headless, new BagRandomizer(0), new SplittableRandom());
+    }
+
+    /**
+     *  构造方法（每局游戏均使用生成器当前种子，砖块序列可重现）
+     *
+     *  @param headless 是否为无界面模式（使用虚拟时钟，由 step 推进游戏）
+     *  @param randomizer 砖块随机生成器
+     * */
+    public TetrisModelImpl(boolean headless, Randomizer randomizer) {
+        this(headless, randomizer, null);
+    }
+
+    private TetrisModelImpl(boolean headless, Randomizer randomizer, SplittableRandom seedGenerator) {
+        this.headless = headless;
+        this.clock = headless ? new VirtualClock() : GameClock.SYSTEM;
+        this.randomizer = randomizer;
+        this.seedGenerator = seedGenerator;
+        // 初始化砖块队列
+        tileQueue = new TileQueue(TILE_QUEUE_CAPACITY);
+        // 初始化游戏棋盘（比游戏高度高出四格不予显示，仅用于计算判定）
+        gameBoard = new GameBoard();
         // 初始化游戏速度，默认5级
         speedLevel = 5;
         // 初始化游戏敏感度级别，默认7级
@@ -181,26 +368,31 @@ public class TetrisModelImpl implements TetrisModel {
         changeGameStatus(GameStatus.PREPARE);
     }
 
+    /**
+     *  切换游戏状态
+     *  与输入操作相同，游戏核心线程启动后放入命令队列，由游戏核心线程按提交顺序执行（状态改变监听器均在游戏核心线程中调用）
+     * */
     @Override
     public void changeGameStatus(GameStatus gameStatus) {
+        if (null == gameStatus) {
+            return;
+        }
+        submit(CHANGE_STATUS_OPCODE, gameStatus.ordinal(), NO_INPUT_NANOS);
+    }
+
+    /**
+     *  切换游戏状态（调用方为唯一写入者，不发布版本号）
+     * */
+    private void doChangeGameStatus(GameStatus gameStatus) {
         GameStatus tempStatus = this.gameStatus;
         // 更改游戏状态
         this.gameStatus = gameStatus;
 
         if (null != gameStatus && tempStatus != gameStatus) {
+            version++;
             switch (gameStatus) {
                 // 切换至准备状态
                 case PREPARE:
-                    // 停止已有游戏线程
-                    if (null != tetrisMainThread) {
-                        tetrisMainThread.callStop();
-                    }
-                    if (null != moveLeftThread) {
-                        moveLeftThread.callStop();
-                    }
-                    if (null != moveRightThread) {
-                        moveRightThread.callStop();
-                    }
                     // 重置各状态标识
                     softDownFlag = false;
                     moveLeftFlag = false;
@@ -210,24 +402,22 @@ public class TetrisModelImpl implements TetrisModel {
                     lockCounter = 0;
                     hardLockCounter = 0;
                     holdCounter = 0;
-                    // 清空基矩阵
-                    for (int i = 0; i < gameBaseMatrix.length; i++) {
-                        for (int j = 0; j < gameBaseMatrix[i].length; j++) {
-                            gameBaseMatrix[i][j] = 0;
-                        }
-                    }
-                    // 清空砖块列表
-                    if (null != tileList) {
-                        tileList.clear();
-                    }
+                    // 清空棋盘
+                    gameBoard.clear();
+                    // 清空砖块队列，重置随机生成器
+                    tileQueue.clear();
+                    randomizer.reset(null == seedGenerator ? randomizer.getSeed() : seedGenerator.nextLong());
                     // 清空当前砖块
                     currentTile = null;
                     // 重置hold区
                     holdTile = null;
                     // 累积时间清零
-                    accumulateTime = Duration.ZERO;
-                    // 得分清零
+                    accumulateNanos = 0;
+                    // 得分、消行数、推进次数清零
                     score = 0;
+                    lines = 0;
+                    ticks = 0;
+                    tileCounts = 0;
                     break;
                 // 切换至游戏中状态
                 case PLAYING:
@@ -235,47 +425,24 @@ public class TetrisModelImpl implements TetrisModel {
                     if (tempStatus == GameStatus.PREPARE) {
                         nextTile();
                     }
-                    // 创建并启动游戏线程
-                    tetrisMainThread = new TetrisMainThread();
-                    tetrisMainThread.start();
+                    // 创建游戏线程（每个游戏仅创建一次，由 submit 在状态写入完毕后启动；已启动时本操作即在游戏线程中执行，无需唤醒；
+                    // 无界面模式由 step 推进，不创建线程）
+                    if (!headless && null == tetrisMainThread) {
+                        tetrisMainThread = new TetrisMainThread();
+                    }
                     // 记录当前时间戳
-                    gameInstant = Instant.now();
+                    gameNanos = clock.nanoTime();
                     break;
                 // 切换至暂停状态
                 case PAUSE:
-                    // 停止已有游戏线程
-                    if (null != tetrisMainThread) {
-                        tetrisMainThread.callStop();
-                    }
-                    if (null != moveLeftThread) {
-                        moveLeftThread.callStop();
-                    }
-                    if (null != moveRightThread) {
-                        moveRightThread.callStop();
-                    }
                     // 重置各状态标识
                     softDownFlag = false;
                     moveLeftFlag = false;
                     moveRightFlag = false;
                     // 更新累积时间
-                    if (null != accumulateTime) {
-                        accumulateTime = accumulateTime.plus(Duration.between(gameInstant, Instant.now()));
-                    }
-                    else {
-                        accumulateTime = Duration.between(gameInstant, Instant.now());
-                    }
+                    accumulateNanos += clock.nanoTime() - gameNanos;
                     break;
                 case OVER:
-                    // 停止已有游戏线程
-                    if (null != tetrisMainThread) {
-                        tetrisMainThread.callStop();
-                    }
-                    if (null != moveLeftThread) {
-                        moveLeftThread.callStop();
-                    }
-                    if (null != moveRightThread) {
-                        moveRightThread.callStop();
-                    }
                     // 重置各状态标识
                     softDownFlag = false;
                     moveLeftFlag = false;
@@ -286,30 +453,30 @@ public class TetrisModelImpl implements TetrisModel {
                     hardLockCounter = 0;
                     holdCounter = 0;
                     // 更新累积时间
-                    if (null != accumulateTime) {
-                        accumulateTime = accumulateTime.plus(Duration.between(gameInstant, Instant.now()));
-                    }
-                    else {
-                        accumulateTime = Duration.between(gameInstant, Instant.now());
-                    }
+                    accumulateNanos += clock.nanoTime() - gameNanos;
                     break;
                 default:
                     assert false;
             }
 
+            // 触发游戏结束事件
+            if (gameStatus == GameStatus.OVER && hasGameEventListeners()) {
+                fireGameEvent(acquireGameEvent(GameEvent.Type.GAME_OVER).setScore(score, lines));
+            }
+
             // 触发游戏状态改变事件
-            if (null != onStatusChangedListenerList) {
+            if (!onStatusChangedListenerList.isEmpty()) {
                 StatusChangedEvent event = new StatusChangedEvent(this, gameStatus, tempStatus);
-                onStatusChangedListenerList.forEach(l -> l.onStatusChanged(event));
+                for (OnStatusChangedListener listener : onStatusChangedListenerList) {
+                    listener.onStatusChanged(event);
+                }
             }
         }
     }
 
     @Override
     public void setSpeedLevel(int speedLevel) {
-        speedLevel = Math.max(speedLevel, 0);
-        speedLevel = Math.min(speedLevel, SPEED_CONST.length - 1);
-        this.speedLevel = speedLevel;
+        submit(InputAction.SET_SPEED_LEVEL, speedLevel);
     }
 
     @Override
@@ -319,9 +486,7 @@ public class TetrisModelImpl implements TetrisModel {
 
     @Override
     public void setSensitivityLevel(int sensitivityLevel) {
-        sensitivityLevel = Math.max(sensitivityLevel, 0);
-        sensitivityLevel = Math.min(sensitivityLevel, SENSITIVITY_CONST.length - 1);
-        this.sensitivityLevel = sensitivityLevel;
+        submit(InputAction.SET_SENSITIVITY_LEVEL, sensitivityLevel);
     }
 
     @Override
@@ -330,7 +495,14 @@ public class TetrisModelImpl implements TetrisModel {
     }
 
     @Override
-    public synchronized boolean moveLeft() {
+    public boolean moveLeft() {
+        return submit(InputAction.MOVE_LEFT, 0);
+    }
+
+    /**
+     *  左移（内部调用，不触发输入动作事件）
+     * */
+    private boolean doMoveLeft() {
         boolean flag = false;
         if (gameStatus == GameStatus.PLAYING) {
             // 左移
@@ -343,6 +515,10 @@ public class TetrisModelImpl implements TetrisModel {
             else {
                 flag = true;
                 lockCounter = 0;
+                version++;
+                if (hasGameEventListeners()) {
+                    fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_MOVED).setMove(-1, 0));
+                }
             }
         }
         return flag;
@@ -350,29 +526,37 @@ public class TetrisModelImpl implements TetrisModel {
 
     @Override
     public void startMoveLeft() {
+        submit(InputAction.START_MOVE_LEFT, 0);
+    }
+
+    /**
+     *  开始持续左移（内部调用，不触发输入动作事件，下同）
+     * */
+    private void doStartMoveLeft() {
         if (gameStatus == GameStatus.PLAYING && !moveLeftFlag) {
-            // 创建并开始左移进程
-            moveLeftThread = new TetrisMoveThread(true);
-            moveLeftThread.start();
-            // 更改左移状态标识
+            // 更改左移状态标识，持续移动计数清零（不影响持续右移，与同时按住两键时的原有行为一致）
             moveLeftFlag = true;
+            moveCounter = 0;
+            moveRepeated = false;
+            // 立即左移一次，后续由游戏推进自动重复
+            doMoveLeft();
         }
     }
 
     @Override
     public void stopMoveLeft() {
-        if (moveLeftFlag) {
-            // 终止左移进程
-            if (null != moveLeftThread) {
-                moveLeftThread.callStop();
-            }
-            // 更改左移状态标识
-            moveLeftFlag = false;
-        }
+        submit(InputAction.STOP_MOVE_LEFT, 0);
     }
 
     @Override
-    public synchronized boolean moveRight() {
+    public boolean moveRight() {
+        return submit(InputAction.MOVE_RIGHT, 0);
+    }
+
+    /**
+     *  右移（内部调用，不触发输入动作事件）
+     * */
+    private boolean doMoveRight() {
         boolean flag = false;
         if (gameStatus == GameStatus.PLAYING) {
             // 右移
@@ -385,6 +569,10 @@ public class TetrisModelImpl implements TetrisModel {
             else {
                 lockCounter = 0;
                 flag = true;
+                version++;
+                if (hasGameEventListeners()) {
+                    fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_MOVED).setMove(1, 0));
+                }
             }
         }
         return flag;
@@ -392,104 +580,93 @@ public class TetrisModelImpl implements TetrisModel {
 
     @Override
     public void startMoveRight() {
+        submit(InputAction.START_MOVE_RIGHT, 0);
+    }
+
+    private void doStartMoveRight() {
         if (gameStatus == GameStatus.PLAYING && !moveRightFlag) {
-            // 创建并开始右移进程
-            moveRightThread = new TetrisMoveThread(false);
-            moveRightThread.start();
-            // 更改右移状态标识
+            // 更改右移状态标识，持续移动计数清零
             moveRightFlag = true;
+            moveCounter = 0;
+            moveRepeated = false;
+            // 立即右移一次，后续由游戏推进自动重复
+            doMoveRight();
         }
     }
 
     @Override
     public void stopMoveRight() {
-        if (moveRightFlag) {
-            // 终止右移进程
-            if (null != moveRightThread) {
-                moveRightThread.callStop();
-            }
-            // 更改右移状态标识
-            moveRightFlag = false;
-        }
+        submit(InputAction.STOP_MOVE_RIGHT, 0);
     }
 
     @Override
-    public synchronized boolean spinPos() {
-        boolean flag = false;
-        if (gameStatus == GameStatus.PLAYING) {
-            // 顺时针旋转90度
-            direction = Direction.getDirection((direction.getNumber() + 1) % 4);
-
-            // 旋转后进行自适应尝试，若自适应成功，则成功旋转，锁定计数清零
-            if (adaptTile()) {
-                lockCounter = 0;
-                flag = true;
-            }
-            // 旋转失败，还原动作
-            else {
-                direction = Direction.getDirection((direction.getNumber() + 3) % 4);
-            }
-        }
-        return flag;
+    public boolean spinPos() {
+        return submit(InputAction.SPIN_POS, 0);
     }
 
-    @Override
-    public synchronized boolean spinNeg() {
+    /**
+     *  旋转（内部调用，不触发输入动作事件）
+     *
+     *  @param turns 顺时针旋转的 90 度次数
+     *  @return 是否旋转成功
+     * */
+    private boolean doSpin(int turns) {
         boolean flag = false;
         if (gameStatus == GameStatus.PLAYING) {
-            // 逆时针旋转90度
-            direction = Direction.getDirection((direction.getNumber() + 3) % 4);
+            // 旋转
+            direction = Direction.getDirection((direction.getNumber() + turns) % 4);
 
             // 旋转后进行自适应尝试，若自适应成功，则成功旋转，锁定计数清零
             if (adaptTile()) {
                 lockCounter = 0;
                 flag = true;
+                version++;
+                if (hasGameEventListeners()) {
+                    fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_ROTATED).setTurns(turns));
+                }
             }
             // 旋转失败，还原动作
             else {
-                direction = Direction.getDirection((direction.getNumber() + 1) % 4);
+                direction = Direction.getDirection((direction.getNumber() + 4 - turns) % 4);
             }
         }
         return flag;
     }
 
     @Override
-    public synchronized boolean spinRev() {
-        boolean flag = false;
-        if (gameStatus == GameStatus.PLAYING) {
-            // 旋转180度
-            direction = Direction.getDirection((direction.getNumber() + 2) % 4);
+    public boolean spinNeg() {
+        return submit(InputAction.SPIN_NEG, 0);
+    }
 
-            // 旋转后进行自适应尝试，若自适应成功，则成功旋转，锁定计数清零
-            if (adaptTile()) {
-                lockCounter = 0;
-                flag = true;
-            }
-            // 旋转失败，还原动作
-            else {
-                direction = Direction.getDirection((direction.getNumber() + 2) % 4);
-            }
-        }
-        return flag;
+    @Override
+    public boolean spinRev() {
+        return submit(InputAction.SPIN_REV, 0);
     }
 
     @Override
     public void startSoftDown() {
-        softDownFlag = true;
+        submit(InputAction.START_SOFT_DOWN, 0);
     }
 
     @Override
     public void stopSoftDown() {
-        softDownFlag = false;
+        submit(InputAction.STOP_SOFT_DOWN, 0);
     }
 
     @Override
     public void hardDown() {
+        submit(InputAction.HARD_DOWN, 0);
+    }
+
+    private void doHardDown() {
         if (gameStatus == GameStatus.PLAYING) {
             // 直落到底
-            boolean flag = true;
-            while (flag) {
-                flag = moveDown();
+            int distance = 0;
+            while (moveDown()) {
+                distance++;
+            }
+            if (distance > 0 && hasGameEventListeners()) {
+                fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_MOVED).setMove(0, distance));
             }
             // 锁定砖块
             lockTile();
@@ -502,6 +679,10 @@ public class TetrisModelImpl implements TetrisModel {
 
     @Override
     public void hold() {
+        submit(InputAction.HOLD, 0);
+    }
+
+    private void doHold() {
         if (gameStatus == GameStatus.PLAYING && holdCounter == 0) {
             // 若hold区为空，将当前下落方块置入hold区
             if (null == holdTile) {
@@ -511,18 +692,227 @@ public class TetrisModelImpl implements TetrisModel {
             else {
                 Tile temp = holdTile;
                 holdTile = currentTile;
-                tileList.add(0, temp);
+                tileQueue.addFirst(temp);
             }
             // 更改hold标识位
             holdCounter++;
+            if (hasGameEventListeners()) {
+                fireGameEvent(acquireGameEvent(GameEvent.Type.HOLD));
+            }
             // 开始掉落下一砖块
             nextTile();
         }
     }
 
+    @Override
+    public boolean input(InputAction action, long inputNanos) {
+        if (action == InputAction.SET_SPEED_LEVEL || action == InputAction.SET_SENSITIVITY_LEVEL) {
+            throw new IllegalArgumentException("action requires an argument: " + action);
+        }
+        return submit(action, 0, inputNanos);
+    }
+
+    private boolean submit(InputAction action, int argument) {
+        return submit(action.ordinal(), argument, NO_INPUT_NANOS);
+    }
+
+    private boolean submit(InputAction action, int argument, long inputNanos) {
+        return submit(action.ordinal(), argument, inputNanos);
+    }
+
+    /**
+     *  提交命令（输入动作或切换游戏状态）
+     *  游戏核心线程启动前（及无界面模式）在调用线程中持有锁立即执行；启动后放入命令队列，由游戏核心线程在两次推进之间执行，
+     *  输入线程不再争用模型的锁，命令按提交顺序执行，不会插入推进过程中
+     *
+     *  队列已满（游戏线程长时间未执行）时以递增的间隔挂起等待，输入命令等待超过 MAX_SUBMIT_WAIT_NANOS 后丢弃，状态切换不丢弃
+     *
+     *  @param opcode 操作码（输入动作序号或 CHANGE_STATUS_OPCODE）
+     *  @param inputNanos 输入时间（随命令一同入队，命令执行后据此通知输入生效监听器），无则为 NO_INPUT_NANOS
+     *  @return 立即执行时返回操作是否成功，放入队列时返回 true，因队列已满被丢弃时返回 false
+     * */
+    private boolean submit(int opcode, int argument, long inputNanos) {
+        if (null == tetrisMainThread) {
+            synchronized (this) {
+                // 持有锁后复查：游戏线程可能刚由其它线程的开始操作创建，此后只能入队
+                TetrisMainThread mainThread = tetrisMainThread;
+                if (null == mainThread) {
+                    boolean flag = execute(opcode, argument, inputNanos);
+                    publishVersion();
+                    // 本命令创建了游戏线程，状态写入完毕后再启动（启动前的写入对游戏线程可见）
+                    mainThread = tetrisMainThread;
+                    if (null != mainThread) {
+                        mainThread.start();
+                    }
+                    return flag;
+                }
+            }
+        }
+        TetrisMainThread mainThread = tetrisMainThread;
+        long backoffNanos = MIN_SUBMIT_BACKOFF_NANOS;
+        long waitedNanos = 0;
+        while (!commandQueue.offer(opcode, argument, inputNanos)) {
+            if (opcode != CHANGE_STATUS_OPCODE && waitedNanos >= MAX_SUBMIT_WAIT_NANOS) {
+                return false;
+            }
+            mainThread.wakeUp();
+            LockSupport.parkNanos(backoffNanos);
+            waitedNanos += backoffNanos;
+            backoffNanos = Math.min(backoffNanos * 2, MAX_SUBMIT_BACKOFF_NANOS);
+        }
+        mainThread.wakeUp();
+        return true;
+    }
+
+    /**
+     *  执行命令队列中的全部命令（仅游戏核心线程调用，不获取锁）
+     * */
+    private void applyCommands() {
+        if (commandQueue.isEmpty()) {
+            return;
+        }
+        long command;
+        while ((command = commandQueue.poll()) != CommandQueue.EMPTY) {
+            execute(CommandQueue.opcode(command), CommandQueue.argument(command), commandQueue.getPolledTimestamp());
+        }
+        publishVersion();
+    }
+
+    /**
+     *  执行命令（调用方为唯一写入者）
+     *
+     *  @return 操作是否成功
+     * */
+    private boolean execute(int opcode, int argument, long inputNanos) {
+        if (opcode == CHANGE_STATUS_OPCODE) {
+            doChangeGameStatus(GAME_STATUSES[argument]);
+            return true;
+        }
+        InputAction action = InputAction.getAction(opcode);
+        return null != action && applyCommand(action, argument, inputNanos);
+    }
+
+    /**
+     *  执行输入命令（调用方为唯一写入者），触发输入动作事件；附带输入时间且改变了状态时，以执行后的版本号触发输入生效事件
+     *
+     *  @return 操作是否成功（无返回值的操作返回 true）
+     * */
+    private boolean applyCommand(InputAction action, int argument, long inputNanos) {
+        long versionBefore = version;
+        boolean flag = true;
+        switch (action) {
+            case MOVE_LEFT:
+                fireInputAction(action, 0);
+                flag = doMoveLeft();
+                break;
+            case START_MOVE_LEFT:
+                fireInputAction(action, 0);
+                doStartMoveLeft();
+                break;
+            case STOP_MOVE_LEFT:
+                fireInputAction(action, 0);
+                // 更改左移状态标识
+                moveLeftFlag = false;
+                break;
+            case MOVE_RIGHT:
+                fireInputAction(action, 0);
+                flag = doMoveRight();
+                break;
+            case START_MOVE_RIGHT:
+                fireInputAction(action, 0);
+                doStartMoveRight();
+                break;
+            case STOP_MOVE_RIGHT:
+                fireInputAction(action, 0);
+                // 更改右移状态标识
+                moveRightFlag = false;
+                break;
+            case SPIN_POS:
+                fireInputAction(action, 0);
+                // 顺时针旋转90度
+                flag = doSpin(1);
+                break;
+            case SPIN_NEG:
+                fireInputAction(action, 0);
+                // 逆时针旋转90度
+                flag = doSpin(3);
+                break;
+            case SPIN_REV:
+                fireInputAction(action, 0);
+                // 旋转180度
+                flag = doSpin(2);
+                break;
+            case START_SOFT_DOWN:
+                fireInputAction(action, 0);
+                softDownFlag = true;
+                break;
+            case STOP_SOFT_DOWN:
+                fireInputAction(action, 0);
+                softDownFlag = false;
+                break;
+            case HARD_DOWN:
+                fireInputAction(action, 0);
+                doHardDown();
+                break;
+            case HOLD:
+                fireInputAction(action, 0);
+                doHold();
+                break;
+            case SET_SPEED_LEVEL:
+                argument = Math.min(Math.max(argument, 0), SPEED_CONST.length - 1);
+                fireInputAction(action, argument);
+                if (argument != speedLevel && hasGameEventListeners()) {
+                    fireGameEvent(acquireGameEvent(GameEvent.Type.LEVEL_CHANGED).setLevel(argument));
+                }
+                speedLevel = argument;
+                break;
+            case SET_SENSITIVITY_LEVEL:
+                argument = Math.min(Math.max(argument, 0), SENSITIVITY_CONST.length - 1);
+                fireInputAction(action, argument);
+                sensitivityLevel = argument;
+                break;
+            default:
+                assert false;
+        }
+        // 未改变状态的操作（如撞墙的移动）不产生画面变化，不通知
+        if (inputNanos != NO_INPUT_NANOS && version != versionBefore) {
+            for (OnInputAppliedListener listener : onInputAppliedListenerList) {
+                listener.onInputApplied(action, inputNanos, version);
+            }
+        }
+        return flag;
+    }
+
+    /**
+     *  游戏推进（调用方为唯一写入者，不获取锁）
+     *  实时模式仅由游戏核心线程调用；无界面模式由调用方推进，step 在每次推进时持有锁，与读取快照互斥
+     *
+     *  @throws IllegalStateException 实时模式下在游戏核心线程之外调用
+     * */
     @Override
     public void progress() {
+        if (!headless && Thread.currentThread() != tetrisMainThread) {
+            throw new IllegalStateException("progress is driven by the game thread in real-time mode");
+        }
         if (gameStatus == GameStatus.PLAYING) {
+            ticks++;
+
+            // 持续左右移动（DAS/ARR）
+            if (moveLeftFlag || moveRightFlag) {
+                moveCounter++;
+                // 移动间隔由敏感度级别决定，第一次重复移动间隔为后续移动间隔两倍
+                if (moveCounter >= SENSITIVITY_CONST[sensitivityLevel] * (moveRepeated ? 1 : 2)) {
+                    if (moveLeftFlag) {
+                        doMoveLeft();
+                    }
+                    if (moveRightFlag) {
+                        doMoveRight();
+                    }
+                    moveCounter = 0;
+                    moveRepeated = true;
+                }
+            }
+
             // 判断是否下落
             if (downCounter >= (softDownFlag ? SPEED_CONST[speedLevel] / 3 : SPEED_CONST[speedLevel])) {
                 // 尝试下落
@@ -532,6 +922,9 @@ public class TetrisModelImpl implements TetrisModel {
                     downCounter = 0;
                     lockCounter = 0;
                     hardLockCounter = 0;
+                    if (hasGameEventListeners()) {
+                        fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_MOVED).setMove(0, 1));
+                    }
                 }
                 // 若无法下落
                 else {
@@ -571,6 +964,124 @@ public class TetrisModelImpl implements TetrisModel {
                 downCounter++;
             }
         }
+        publishVersion();
+    }
+
+    /**
+     *  按虚拟时钟推进游戏（仅无界面模式可用）
+     *  每推进一次虚拟时钟前进一个原子时间单位，游戏不在进行中时提前返回
+     *
+     *  @param ticks 推进次数
+     *  @return 实际推进次数
+     *  @throws IllegalStateException 非无界面模式（实时模式由游戏核心线程推进）
+     * */
+    public int step(int ticks) {
+        if (!headless) {
+            throw new IllegalStateException("step is only available in headless mode");
+        }
+        int counts = 0;
+        VirtualClock virtualClock = (VirtualClock) clock;
+        while (counts < ticks && gameStatus == GameStatus.PLAYING) {
+            synchronized (this) {
+                virtualClock.advance(ATOMIC_NANOS);
+                progress();
+            }
+            counts++;
+        }
+        return counts;
+    }
+
+    /**
+     *  保存游戏状态（不包括监听器，存档对象可重复使用；实时模式须在游戏线程中调用，如在监听器中）
+     *
+     *  @param state 存档对象
+     * */
+    public synchronized void saveState(GameState state) {
+        state.gameBoard.copyFrom(gameBoard);
+        state.tileQueue.copyFrom(tileQueue);
+        state.gameStatus = gameStatus;
+        state.speedLevel = speedLevel;
+        state.sensitivityLevel = sensitivityLevel;
+        state.currentTile = currentTile;
+        state.direction = direction;
+        state.x = x;
+        state.y = y;
+        state.holdTile = holdTile;
+        state.randomizerSeed = randomizer.getSeed();
+        state.randomizerState = randomizer.getState();
+        state.softDownFlag = softDownFlag;
+        state.moveLeftFlag = moveLeftFlag;
+        state.moveRightFlag = moveRightFlag;
+        state.moveCounter = moveCounter;
+        state.moveRepeated = moveRepeated;
+        state.holdCounter = holdCounter;
+        state.downCounter = downCounter;
+        state.lockCounter = lockCounter;
+        state.hardLockCounter = hardLockCounter;
+        state.clockNanos = clock.nanoTime();
+        state.accumulateNanos = accumulateNanos;
+        state.gameNanos = gameNanos;
+        state.score = score;
+        state.lines = lines;
+        state.tileCounts = tileCounts;
+        state.ticks = ticks;
+    }
+
+    /**
+     *  还原游戏状态（仅无界面模式可用，不触发状态改变事件）
+     *
+     *  @param state 由 saveState 写入的存档对象
+     *  @return 是否还原成功
+     * */
+    public synchronized boolean restoreState(GameState state) {
+        if (!headless) {
+            return false;
+        }
+        gameBoard.copyFrom(state.gameBoard);
+        tileQueue.copyFrom(state.tileQueue);
+        gameStatus = state.gameStatus;
+        speedLevel = state.speedLevel;
+        sensitivityLevel = state.sensitivityLevel;
+        currentTile = state.currentTile;
+        direction = state.direction;
+        x = state.x;
+        y = state.y;
+        holdTile = state.holdTile;
+        randomizer.reset(state.randomizerSeed);
+        randomizer.setState(state.randomizerState);
+        softDownFlag = state.softDownFlag;
+        moveLeftFlag = state.moveLeftFlag;
+        moveRightFlag = state.moveRightFlag;
+        moveCounter = state.moveCounter;
+        moveRepeated = state.moveRepeated;
+        holdCounter = state.holdCounter;
+        downCounter = state.downCounter;
+        lockCounter = state.lockCounter;
+        hardLockCounter = state.hardLockCounter;
+        ((VirtualClock) clock).setNanoTime(state.clockNanos);
+        accumulateNanos = state.accumulateNanos;
+        gameNanos = state.gameNanos;
+        score = state.score;
+        lines = state.lines;
+        tileCounts = state.tileCounts;
+        ticks = state.ticks;
+        version++;
+        publishVersion();
+        return true;
+    }
+
+    /**
+     *  获取本局已锁定砖块数
+     * */
+    public int getTileCounts() {
+        return tileCounts;
+    }
+
+    /**
+     *  是否为无界面模式
+     * */
+    public boolean isHeadless() {
+        return headless;
     }
 
     @Override
@@ -579,128 +1090,278 @@ public class TetrisModelImpl implements TetrisModel {
     }
 
     @Override
-    public synchronized int[][] getGameDisplayMatrix() {
+    public int[][] getGameDisplayMatrix() {
+        // 填充显示缓冲区
+        int[] buffer = new int[GAME_HEIGHT * GAME_WIDTH];
+        fillGameDisplay(buffer, -1);
         // 新建显示矩阵
-        int[][] displayMatrix = new int[gameBaseMatrix.length - 4][];
-        // 复制基矩阵（不包括前四行）
-        for (int i = 4; i < gameBaseMatrix.length; i++) {
-            displayMatrix[i - 4] = Arrays.copyOf(gameBaseMatrix[i], gameBaseMatrix[i].length);
+        int[][] displayMatrix = new int[GAME_HEIGHT][];
+        for (int i = 0; i < GAME_HEIGHT; i++) {
+            displayMatrix[i] = Arrays.copyOfRange(buffer, i * GAME_WIDTH, (i + 1) * GAME_WIDTH);
         }
+        return displayMatrix;
+    }
 
-        // 复制投影矩阵
-        if (null != currentTile) {
-            // 记录砖块原始高度
-            int tempY = y;
-            // 计算投影位置
-            // 下落到底
-            while (true) {
-                y++;
-                if (hasConflict()) {
-                    y--;
-                    break;
-                }
-            }
-            int[][] tileMatrix = currentTile.getTileMatrix(direction);
-            for (int i = 0; i < tileMatrix.length; i++) {
-                for (int j = 0; j < tileMatrix[i].length; j++) {
-                    if (tileMatrix[i][j] != 0
-                            && (y - 4 + i) >= 0 && (y - 4 + i) < displayMatrix.length
-                            && (x + j) >= 0 && (x + j) < displayMatrix[y - 4 + i].length) {
-                        displayMatrix[y - 4 + i][x + j] = -tileMatrix[i][j];
-                    }
-                }
-            }
-            // 还原砖块位置
-            y = tempY;
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long fillGameDisplay(int[] buffer, long knownVersion) {
+        // 状态未改变，无需复制
+        if (knownVersion == version) {
+            return knownVersion;
+        }
+        // 实时模式从已发布的快照复制，不获取锁（写入方线程直接读取状态）
+        if (!readsLiveState()) {
+            return snapshotBuffer.readCells(buffer, knownVersion);
+        }
+        synchronized (this) {
+            fillDisplay(buffer);
+            return version;
         }
+    }
 
-        // 复制砖块矩阵
-        if (null != currentTile) {
-            int[][] tileMatrix = currentTile.getTileMatrix(direction);
-            for (int i = 0; i < tileMatrix.length; i++) {
-                for (int j = 0; j < tileMatrix[i].length; j++) {
-                    if (tileMatrix[i][j] != 0
-                            && (y - 4 + i) >= 0 && (y - 4 + i) < displayMatrix.length
-                            && (x + j) >= 0 && (x + j) < displayMatrix[y - 4 + i].length) {
-                        displayMatrix[y - 4 + i][x + j] = tileMatrix[i][j];
-                    }
-                }
+    @Override
+    public GameSnapshot getSnapshot() {
+        GameSnapshot snapshot = new GameSnapshot();
+        readSnapshot(snapshot);
+        return snapshot;
+    }
+
+    @Override
+    public void readSnapshot(GameSnapshot snapshot) {
+        // 实时模式的其它线程从已发布的快照复制；无界面模式（及写入方线程）由当前状态按需生成
+        if (!readsLiveState()) {
+            snapshotBuffer.read(snapshot);
+            return;
+        }
+        synchronized (this) {
+            if (snapshot.getVersion() != version) {
+                fillSnapshot(snapshot);
             }
         }
-
-        return displayMatrix;
     }
 
     @Override
     public List<Tile> getFollowingTileList() {
         List<Tile> followingTileList = null;
-        if (gameStatus != GameStatus.PREPARE && null != tileList) {
-            // 返回队列中前 FOLLOW_TILE_COUNTS 个砖块
-            followingTileList = tileList.stream().limit(FOLLOW_TILE_COUNTS).collect(Collectors.toList());
+        if (readsLiveState()) {
+            if (gameStatus != GameStatus.PREPARE) {
+                // 返回队列中前 FOLLOW_TILE_COUNTS 个砖块
+                followingTileList = new ArrayList<>(FOLLOW_TILE_COUNTS);
+                for (int i = 0; i < FOLLOW_TILE_COUNTS; i++) {
+                    followingTileList.add(tileQueue.get(i));
+                }
+            }
+        }
+        else {
+            GameSnapshot snapshot = getSnapshot();
+            if (snapshot.getGameStatus() != GameStatus.PREPARE) {
+                followingTileList = new ArrayList<>(FOLLOW_TILE_COUNTS);
+                for (int i = 0; i < FOLLOW_TILE_COUNTS; i++) {
+                    followingTileList.add(snapshot.getFollowingTile(i));
+                }
+            }
         }
         return followingTileList;
     }
 
+    @Override
+    public Tile getFollowingTile(int index) {
+        if (!readsLiveState()) {
+            return snapshotBuffer.readFollowingTile(index);
+        }
+        return gameStatus == GameStatus.PREPARE || index >= FOLLOW_TILE_COUNTS ? null : tileQueue.get(index);
+    }
+
     @Override
     public Tile getHoldTile() {
+        if (!readsLiveState()) {
+            return snapshotBuffer.readHoldTile();
+        }
         return gameStatus == GameStatus.PREPARE ? null : holdTile;
     }
 
+    @Override
+    public long getSeed() {
+        return randomizer.getSeed();
+    }
+
+    @Override
+    public Randomizer.Type getRandomizerType() {
+        return randomizer.getType();
+    }
+
+    /**
+     *  获取砖块随机生成器
+     * */
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+
     @Override
     public int getScore() {
-        return score;
+        return readsLiveState() ? score : snapshotBuffer.readScore();
+    }
+
+    @Override
+    public int getLines() {
+        return readsLiveState() ? lines : snapshotBuffer.readLines();
     }
 
     @Override
     public Duration getTime() {
-        Duration time = Duration.ZERO;
+        return Duration.ofNanos(getTimeNanos());
+    }
+
+    @Override
+    public long getTimeNanos() {
+        long timeNanos = 0;
         switch (gameStatus) {
             case PLAYING:
-                time = accumulateTime.plus(Duration.between(gameInstant, Instant.now()));
+                timeNanos = accumulateNanos + clock.nanoTime() - gameNanos;
                 break;
             case PAUSE: case OVER:
-                time = accumulateTime;
+                timeNanos = accumulateNanos;
                 break;
         }
 
-        return time;
+        return timeNanos;
+    }
+
+    @Override
+    public long getTicks() {
+        return ticks;
     }
 
     @Override
     public void addOnTileModifiedListener(OnTileModifiedListener listener) {
-        if (null == onTileModifiedListenerList) {
-            onTileModifiedListenerList = new ArrayList<>();
-        }
         // 如果监听队列中不包含该监听器，则添加该监听器进入监听队列
-        boolean flag = onTileModifiedListenerList.stream().anyMatch(l -> l == listener);
-        if (!flag) {
-            onTileModifiedListenerList.add(listener);
-        }
+        onTileModifiedListenerList.addIfAbsent(listener);
     }
 
     @Override
     public void removeOnTileModifiedListener(OnTileModifiedListener listener) {
-        if (null != onTileModifiedListenerList) {
-            onTileModifiedListenerList.remove(listener);
-        }
+        onTileModifiedListenerList.remove(listener);
     }
 
     @Override
     public void addOnStatusChangedListener(OnStatusChangedListener listener) {
-        if (null == onStatusChangedListenerList) {
-            onStatusChangedListenerList = new ArrayList<>();
-        }
         // 如果监听队列中不包含该监听器，则添加该监听器进入监听队列
-        boolean flag = onStatusChangedListenerList.stream().anyMatch(l -> l == listener);
-        if (!flag) {
-            onStatusChangedListenerList.add(listener);
-        }
+        onStatusChangedListenerList.addIfAbsent(listener);
     }
 
     @Override
     public void removeOnStatusChangedListener(OnStatusChangedListener listener) {
-        if (null != onStatusChangedListenerList) {
-            onStatusChangedListenerList.remove(listener);
+        onStatusChangedListenerList.remove(listener);
+    }
+
+    @Override
+    public void addOnInputActionListener(OnInputActionListener listener) {
+        // 如果监听队列中不包含该监听器，则添加该监听器进入监听队列
+        onInputActionListenerList.addIfAbsent(listener);
+    }
+
+    @Override
+    public void removeOnInputActionListener(OnInputActionListener listener) {
+        onInputActionListenerList.remove(listener);
+    }
+
+    @Override
+    public void addOnInputAppliedListener(OnInputAppliedListener listener) {
+        // 如果监听队列中不包含该监听器，则添加该监听器进入监听队列
+        onInputAppliedListenerList.addIfAbsent(listener);
+    }
+
+    @Override
+    public void removeOnInputAppliedListener(OnInputAppliedListener listener) {
+        onInputAppliedListenerList.remove(listener);
+    }
+
+    @Override
+    public void addOnVersionChangedListener(OnVersionChangedListener listener) {
+        // 如果监听队列中不包含该监听器，则添加该监听器进入监听队列
+        onVersionChangedListenerList.addIfAbsent(listener);
+    }
+
+    @Override
+    public void removeOnVersionChangedListener(OnVersionChangedListener listener) {
+        onVersionChangedListenerList.remove(listener);
+    }
+
+    @Override
+    public void addOnGameEventListener(OnGameEventListener listener) {
+        onGameEventListenerList.addIfAbsent(listener);
+    }
+
+    @Override
+    public void removeOnGameEventListener(OnGameEventListener listener) {
+        onGameEventListenerList.remove(listener);
+    }
+
+    /**
+     *  当前线程能否直接读取状态（无界面模式，或当前线程为写入方：游戏核心线程，或游戏核心线程启动前持有锁的提交线程）
+     *  实时模式下其它线程读取已发布的快照；写入方触发的监听器（如游戏结束时写入回放）在本次改变发布之前调用，须读取状态本身
+     * */
+    private boolean readsLiveState() {
+        return headless || Thread.currentThread() == tetrisMainThread || Thread.holdsLock(this);
+    }
+
+    /**
+     *  若版本号自上次通知后有所增加，通知版本号改变监听器（每次操作或推进结束时调用，合并期间的多次改变）
+     * */
+    private void publishVersion() {
+        long version = this.version;
+        if (version != publishedVersion) {
+            publishedVersion = version;
+            // 实时模式先发布快照，监听器（如请求重绘）即可读到新状态（写入预分配的缓冲区，不分配内存）
+            if (!headless) {
+                fillSnapshot(snapshotBuffer.beginWrite());
+                snapshotBuffer.publish();
+            }
+            for (OnVersionChangedListener listener : onVersionChangedListenerList) {
+                listener.onVersionChanged(version);
+            }
+        }
+    }
+
+    /**
+     *  触发输入动作事件
+     * */
+    private void fireInputAction(InputAction action, int argument) {
+        for (OnInputActionListener listener : onInputActionListenerList) {
+            listener.onInputAction(action, argument, ticks);
+        }
+    }
+
+    /**
+     *  是否有游戏事件监听器（无监听器时不填充事件）
+     * */
+    private boolean hasGameEventListeners() {
+        return !onGameEventListenerList.isEmpty();
+    }
+
+    /**
+     *  从对象池取出游戏事件并以当前砖块填充（须随后调用 fireGameEvent 归还）
+     * */
+    private GameEvent acquireGameEvent(GameEvent.Type type) {
+        GameEvent event = gameEventDepth < gameEventPool.length ? gameEventPool[gameEventDepth] : new GameEvent();
+        gameEventDepth++;
+        return event.reset(type, ticks, currentTile, direction, x, y);
+    }
+
+    /**
+     *  触发游戏事件并将事件归还对象池
+     * */
+    private void fireGameEvent(GameEvent event) {
+        try {
+            for (OnGameEventListener listener : onGameEventListenerList) {
+                listener.onGameEvent(event);
+            }
+        } finally {
+            gameEventDepth--;
         }
     }
 
@@ -709,22 +1370,8 @@ public class TetrisModelImpl implements TetrisModel {
      *
      *  @return 是否存在冲突
      * */
-    private synchronized boolean hasConflict() {
-        boolean flag = false;
-        int[][] tileMatrix = currentTile.getTileMatrix(direction);
-        for (int i = 0; i < tileMatrix.length; i++) {
-            for (int j = 0; j < tileMatrix[i].length; j++) {
-                if ((tileMatrix[i][j] != 0)                                     // 砖块不为空
-                        &&
-                        ((x + j < 0 || x + j >= gameBaseMatrix[i].length)       // 越过左右边界
-                        || (y + i >= gameBaseMatrix.length)                     // 越过下边界
-                        || (y + i >= 0 && gameBaseMatrix[y + i][x + j] != 0))   // 与已有砖块冲突
-                        ) {
-                    flag = true; break;
-                }
-            }
-        }
-        return flag;
+    private boolean hasConflict() {
+        return gameBoard.hasConflict(currentTile, direction, x, y);
     }
 
     /**
@@ -732,7 +1379,7 @@ public class TetrisModelImpl implements TetrisModel {
      *
      * @return 是否适应成功
      * */
-    private synchronized boolean adaptTile() {
+    private boolean adaptTile() {
         boolean flag = false;
 
         // 记录砖块原始位置
@@ -740,23 +1387,13 @@ public class TetrisModelImpl implements TetrisModel {
         int tempY = y;
 
         // 设定砖块调整范围
-        int[] xRange;
-        int[] yRange;
-        // 对于 I 型砖块，最大调整范围为2格
-        if (currentTile == Tile.I) {
-            xRange = new int[]{x, x - 1, x + 1, x - 2, x + 2};
-            yRange = new int[]{y, y - 1, y + 1, y - 2, y + 2};
-        }
-        // 对于其它砖块，最大调整范围为1格
-        else {
-            xRange = new int[]{x, x - 1, x + 1};
-            yRange = new int[]{y, y - 1, y + 1};
-        }
+        // 对于 I 型砖块，最大调整范围为2格；对于其它砖块，最大调整范围为1格
+        int[] offsets = currentTile == Tile.I ? I_ADAPT_OFFSETS : ADAPT_OFFSETS;
         // 调整砖块位置
-        for (int x : xRange) {
-            for (int y : yRange) {
-                this.x = x;
-                this.y = y;
+        for (int dx : offsets) {
+            for (int dy : offsets) {
+                this.x = tempX + dx;
+                this.y = tempY + dy;
                 // 调整成功，跳出循环
                 if (!hasConflict()) {
                     flag = true;
@@ -779,7 +1416,7 @@ public class TetrisModelImpl implements TetrisModel {
     /**
      *  向下移动
      * */
-    private synchronized boolean moveDown() {
+    private boolean moveDown() {
         boolean flag = true;
         // 下移
         y++;
@@ -788,23 +1425,21 @@ public class TetrisModelImpl implements TetrisModel {
             y--;
             flag = false;
         }
+        else {
+            version++;
+        }
         return flag;
     }
 
     /**
      *  锁定当前方块
      * */
-    private synchronized void lockTile() {
-        // 复制砖块矩阵
-        int[][] tileMatrix = currentTile.getTileMatrix(direction);
-        for (int i = 0; i < tileMatrix.length; i++) {
-            for (int j = 0; j < tileMatrix[i].length; j++) {
-                if (tileMatrix[i][j] != 0
-                        && y + i >= 0 && y + i < gameBaseMatrix.length
-                        && x + j >= 0 && x + j < gameBaseMatrix[y + i].length) {
-                    gameBaseMatrix[y + i][x + j] = tileMatrix[i][j];
-                }
-            }
+    private void lockTile() {
+        gameBoard.lockTile(currentTile, direction, x, y);
+        tileCounts++;
+        version++;
+        if (hasGameEventListeners()) {
+            fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_LOCKED));
         }
     }
 
@@ -813,76 +1448,116 @@ public class TetrisModelImpl implements TetrisModel {
      *
      *  @return 消除行数
      * */
-    private synchronized int clearTile() {
-        int lineCounts = 0;
+    private int clearTile() {
+        // 消除满行
+        int lineCounts = gameBoard.clearLines();
+        lines += lineCounts;
 
-        for (int i = gameBaseMatrix.length - 1; i >= 0; i--) {
-            boolean isFullRow = true;
-            for (int j = 0; j < gameBaseMatrix[i].length; j++) {
-                if (gameBaseMatrix[i][j] == 0) {
-                    isFullRow = false;
-                }
-            }
-            // 若为满行，消除该行，i 自增，lineCounts 自增
-            if (isFullRow) {
-                System.arraycopy(gameBaseMatrix, 0, gameBaseMatrix, 1, i);
-                gameBaseMatrix[0] = new int[gameBaseMatrix[0].length];
-                i++;
-                lineCounts++;
-            }
+        // 计算得分
+        score += getLineScore(lineCounts);
+        if (lineCounts > 0 && hasGameEventListeners()) {
+            fireGameEvent(acquireGameEvent(GameEvent.Type.LINES_CLEARED)
+                    .setLinesCleared(lineCounts, gameBoard.getClearedRows() >>> GameBoard.HIDDEN_ROWS)
+                    .setScore(score, lines));
         }
+        return lineCounts;
+    }
 
-        // 计算得分
+    /**
+     *  消行得分（与搜索棋盘共用）
+     *
+     *  @param lineCounts 一次消除的行数
+     * */
+    static int getLineScore(int lineCounts) {
         switch (lineCounts) {
             case 1:
-                score += 100;
-                break;
+                return 100;
             case 2:
-                score += 300;
-                break;
+                return 300;
             case 3:
-                score += 500;
-                break;
+                return 500;
             case 4:
-                score += 1000;
-                break;
+                return 1000;
+            default:
+                return 0;
         }
-        return lineCounts;
     }
 
     /**
-     *  切换下一方块
+     *  将当前状态写入快照（由写入方调用，或持有锁调用）
      * */
-    private synchronized void nextTile() {
-        if (null == tileList) {
-            tileList = new ArrayList<>();
+    private void fillSnapshot(GameSnapshot snapshot) {
+        fillDisplay(displayScratch);
+        int followingCounts = gameStatus == GameStatus.PREPARE ? 0 : FOLLOW_TILE_COUNTS;
+        for (int i = 0; i < followingCounts; i++) {
+            followingScratch[i] = tileQueue.get(i);
+        }
+        snapshot.set(version, gameStatus, displayScratch, currentTile, direction, x, y, followingScratch, followingCounts,
+                gameStatus == GameStatus.PREPARE ? null : holdTile, score, lines, tileCounts);
+    }
+
+    /**
+     *  将棋盘、投影及当前砖块写入显示缓冲区（由写入方调用，或持有锁调用）
+     * */
+    private void fillDisplay(int[] buffer) {
+        // 复制棋盘（不包括隐藏行）
+        for (int i = 0; i < GAME_HEIGHT; i++) {
+            for (int j = 0; j < GAME_WIDTH; j++) {
+                buffer[i * GAME_WIDTH + j] = gameBoard.getCell(i + GameBoard.HIDDEN_ROWS, j);
+            }
+        }
+
+        if (null != currentTile) {
+            // 计算投影位置（下落到底）
+            int ghostY = y;
+            while (!gameBoard.hasConflict(currentTile, direction, x, ghostY + 1)) {
+                ghostY++;
+            }
+            // 复制投影及砖块
+            TileShape shape = currentTile.getShape(direction);
+            fillTile(buffer, shape, ghostY, -shape.getValue());
+            fillTile(buffer, shape, y, shape.getValue());
         }
-        // 填充砖块队列至两组
-        while (tileList.size() <= 7) {
-            List<Tile> tileBag = new ArrayList<>();
-            for (int i = 0; i < 7; i++) {
-                tileBag.add(Tile.getTile(i));
+    }
+
+    /**
+     *  将砖块写入显示缓冲区（越界部分忽略）
+     * */
+    private void fillTile(int[] buffer, TileShape shape, int tileY, int value) {
+        for (int k = 0; k < shape.getCellCounts(); k++) {
+            int i = tileY - GameBoard.HIDDEN_ROWS + shape.getCellRow(k);
+            int j = x + shape.getCellColumn(k);
+            if (i >= 0 && i < GAME_HEIGHT && j >= 0 && j < GAME_WIDTH) {
+                buffer[i * GAME_WIDTH + j] = value;
             }
-            // 乱序
-            Collections.shuffle(tileBag);
-            tileList.addAll(tileBag);
+        }
+    }
+
+    /**
+     *  切换下一方块（调用方为唯一写入者）
+     * */
+    private void nextTile() {
+        // 填充砖块队列（出队后仍保留 FOLLOW_TILE_COUNTS 个后续砖块）
+        while (tileQueue.size() <= FOLLOW_TILE_COUNTS) {
+            tileQueue.addLast(randomizer.next());
         }
         // 设置队首砖块为当前砖块
-        currentTile = tileList.remove(0);
+        currentTile = tileQueue.removeFirst();
         // 设置方块初始位置
-        x = 3; y = 0;
+        x = SPAWN_X; y = SPAWN_Y;
         direction = Direction.NORTH;
+        version++;
 
         // 存在冲突，游戏结束
         if (hasConflict()) {
-            // 更新累积时间
-            accumulateTime = accumulateTime.plus(Duration.between(gameInstant, Instant.now()));
-
-            // 更改游戏状态
-            changeGameStatus(GameStatus.OVER);
+            // 更改游戏状态（同时更新累积时间）
+            doChangeGameStatus(GameStatus.OVER);
         }
         // 无冲突，切换成功
         else {
+            if (hasGameEventListeners()) {
+                fireGameEvent(acquireGameEvent(GameEvent.Type.PIECE_SPAWNED));
+            }
             // 重设hold
             if (holdCounter == 1) {
                 holdCounter++;
@@ -893,10 +1568,9 @@ public class TetrisModelImpl implements TetrisModel {
         }
 
         // 触发砖块切换事件
-        onTileModifiedListenerList.forEach(listener -> {
-            TileModifiedEvent event = new TileModifiedEvent(this);
-            listener.onTileModified(event);
-        });
+        for (OnTileModifiedListener listener : onTileModifiedListenerList) {
+            listener.onTileModified(tileModifiedEvent);
+        }
     }
 
     @Override
@@ -916,93 +1590,53 @@ public class TetrisModelImpl implements TetrisModel {
 
     /**
      *  游戏核心线程
+     *  以固定时间步长推进游戏（基于 System.nanoTime 追赶，不累积 sleep 误差），非游戏中状态时挂起
+     *  每次唤醒时先执行命令队列中的输入，再执行到期的推进
      * */
     private class TetrisMainThread extends Thread {
-        /**
-         *  循环标识
-         * */
-        private boolean flag;
-
-        @Override
-        public void run() {
-            super.run();
-            flag = true;
-            while (flag) {
-                progress();
-                try {
-                    sleep(ATOMIC_TIME);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-
-        /**
-         *  请求线程停止
-         * */
-        public synchronized void callStop() {
-            this.flag = false;
-        }
-    }
-
-    /**
-     *  水平移动控制线程
-     * */
-    private class TetrisMoveThread extends Thread {
-        /**
-         *  循环标识
-         * */
-        private boolean flag;
-
-        /**
-         *  循环计数
-         * */
-        private int loopCounts;
 
-        /**
-         *  移动方向标识
-         *  true 左移
-         *  false 右移
-         * */
-        private boolean toward;
-
-        public TetrisMoveThread(boolean Toward) {
-            this.toward = Toward;
-            this.loopCounts = 0;
+        public TetrisMainThread() {
+            super("tetris-main");
+            setDaemon(true);
         }
 
         @Override
         public void run() {
-            super.run();
-            flag = true;
-            while (flag) {
-                // 移动
-                if (toward) {
-                    moveLeft();
-                }
-                else {
-                    moveRight();
+            long nextTick = System.nanoTime();
+            while (true) {
+                // 执行已提交的输入命令（提交时唤醒本线程，输入无需等到下一次推进）
+                applyCommands();
+
+                // 非游戏中状态，挂起等待唤醒，唤醒后重新计时
+                if (gameStatus != GameStatus.PLAYING) {
+                    LockSupport.park(this);
+                    nextTick = System.nanoTime();
+                    continue;
                 }
 
-                // 计算间隔时间
-                // 移动间隔时间由敏感度级别决定
-                // 第一次移动间隔时间为后续移动间隔时间两倍
-                long sleepSpan = ATOMIC_TIME * SENSITIVITY_CONST[sensitivityLevel] * (loopCounts == 0 ? 2 : 1);
-                try {
-                    sleep(sleepSpan);
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
+                // 追赶到期的推进
+                long now = System.nanoTime();
+                int ticks = 0;
+                while (now - nextTick >= 0 && ticks < MAX_CATCH_UP_TICKS) {
+                    progress();
+                    nextTick += ATOMIC_NANOS;
+                    ticks++;
                 }
-                // 循环计数自增
-                loopCounts++;
+                // 落后过多，丢弃积压的推进
+                if (now - nextTick >= 0) {
+                    nextTick = now + ATOMIC_NANOS;
+                }
+
+                // 等待下一次推进
+                LockSupport.parkNanos(this, nextTick - now);
             }
         }
 
         /**
-         *  请求线程停止
+         *  唤醒线程
          * */
-        public synchronized void callStop() {
-            flag = false;
+        public void wakeUp() {
+            LockSupport.unpark(this);
         }
     }
 }
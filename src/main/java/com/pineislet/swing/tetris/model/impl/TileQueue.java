@@ -0,0 +1,125 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Tile;
+
+/**
+ * 砖块队列
+ * 定长环形缓冲区，以砖块序号存储，入队、出队均不分配内存
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class TileQueue {
+
+    /**
+     *  砖块序号缓存（避免 Tile.values() 复制数组）
+     * */
+    private static final Tile[] TILES = Tile.values();
+
+    /**
+     *  缓冲区（容量为 2 的幂）
+     * */
+    private final int[] elements;
+
+    /**
+     *  容量掩码
+     * */
+    private final int mask;
+
+    /**
+     *  队首位置、队列长度
+     * */
+    private int head;
+    private int size;
+
+    /**
+     *  构造方法
+     *
+     *  @param capacity 最小容量（向上取整为 2 的幂）
+     * */
+    public TileQueue(int capacity) {
+        int realCapacity = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        elements = new int[realCapacity];
+        mask = realCapacity - 1;
+    }
+
+    /**
+     *  队尾加入砖块
+     *
+     *  @return 是否加入成功（队列已满时失败）
+     * */
+    public boolean addLast(Tile tile) {
+        if (size == elements.length) {
+            return false;
+        }
+        elements[(head + size) & mask] = tile.ordinal();
+        size++;
+        return true;
+    }
+
+    /**
+     *  队首加入砖块
+     *
+     *  @return 是否加入成功（队列已满时失败）
+     * */
+    public boolean addFirst(Tile tile) {
+        if (size == elements.length) {
+            return false;
+        }
+        head = (head - 1) & mask;
+        elements[head] = tile.ordinal();
+        size++;
+        return true;
+    }
+
+    /**
+     *  移除并返回队首砖块
+     *
+     *  @return 队首砖块，队列为空时返回 null
+     * */
+    public Tile removeFirst() {
+        if (size == 0) {
+            return null;
+        }
+        Tile tile = TILES[elements[head]];
+        head = (head + 1) & mask;
+        size--;
+        return tile;
+    }
+
+    /**
+     *  获取第 index 个砖块
+     *
+     *  @return 砖块，越界时返回 null
+     * */
+    public Tile get(int index) {
+        return index >= 0 && index < size ? TILES[elements[(head + index) & mask]] : null;
+    }
+
+    /**
+     *  获取队列长度
+     * */
+    public int size() {
+        return size;
+    }
+
+    /**
+     *  复制另一队列的全部内容（两队列容量需相同）
+     *
+     *  @param other 源队列
+     * */
+    public void copyFrom(TileQueue other) {
+        System.arraycopy(other.elements, 0, elements, 0, elements.length);
+        head = other.head;
+        size = other.size;
+    }
+
+    /**
+     *  清空队列
+     * */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+}
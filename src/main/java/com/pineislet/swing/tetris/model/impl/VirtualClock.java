@@ -0,0 +1,40 @@
+package com.pineislet.swing.tetris.model.impl;
+
+/**
+ * 虚拟时钟
+ * 时间仅在调用 advance 时前进，用于无界面模拟
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class VirtualClock implements GameClock {
+
+    /**
+     *  当前时间（纳秒）
+     * */
+    private long nanos;
+
+    @Override
+    public long nanoTime() {
+        return nanos;
+    }
+
+    /**
+     *  推进时间
+     *
+     *  @param nanos 推进时长（纳秒）
+     * */
+    public void advance(long nanos) {
+        this.nanos += nanos;
+    }
+
+    /**
+     *  设置当前时间（用于还原存档）
+     *
+     *  @param nanos 当前时间（纳秒）
+     * */
+    public void setNanoTime(long nanos) {
+        this.nanos = nanos;
+    }
+}
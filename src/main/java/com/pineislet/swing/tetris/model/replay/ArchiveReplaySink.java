@@ -0,0 +1,40 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 写入回放归档的回放数据输出目标
+ * 一局回放在内存中拼接完整后连同本局统计一次性追加至归档
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ArchiveReplaySink implements ReplaySink {
+
+    private final ReplayArchive replayArchive;
+
+    private byte[] data;
+    private int length;
+
+    public ArchiveReplaySink(ReplayArchive replayArchive) {
+        this.replayArchive = replayArchive;
+        this.data = new byte[4096];
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) throws IOException {
+        if (this.length + length > this.data.length) {
+            this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.length + length));
+        }
+        System.arraycopy(data, offset, this.data, this.length, length);
+        this.length += length;
+    }
+
+    @Override
+    public void close(int score, int lines, long ticks) throws IOException {
+        replayArchive.append(data, 0, length, score, lines, ticks);
+        data = null;
+    }
+}
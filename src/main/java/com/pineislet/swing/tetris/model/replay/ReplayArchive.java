@@ -0,0 +1,382 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 回放归档
+ * 由只追加的索引文件（replays.idx）与数据文件（replays.dat）组成，两者均以 FileChannel 内存映射读取：
+ * 索引为定长记录，按得分查询时只扫描索引；读取回放时直接返回映射缓冲区的切片，不复制数据
+ *
+ * 索引记录格式（48 字节，大端序）：
+ *   0  long 对局编号
+ *   8  long 随机种子
+ *  16  long 回放数据在数据文件中的偏移
+ *  24  long 对局时长（推进次数）
+ *  32  int  得分
+ *  36  int  消除行数
+ *  40  int  回放数据长度
+ *  44  int  保留
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ReplayArchive implements AutoCloseable {
+
+    /**
+     *  索引文件头：魔数 + 版本号 + 记录长度
+     * */
+    private static final byte[] MAGIC = {'T', 'R', 'A'};
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 8;
+
+    /**
+     *  索引记录长度及各字段偏移
+     * */
+    public static final int RECORD_LENGTH = 48;
+    private static final int GAME_ID = 0;
+    private static final int SEED = 8;
+    private static final int OFFSET = 16;
+    private static final int DURATION = 24;
+    private static final int SCORE = 32;
+    private static final int LINES = 36;
+    private static final int LENGTH = 40;
+
+    /**
+     *  每个索引映射段包含的记录数（单个映射缓冲区不能超过 2GB）
+     * */
+    private static final int RECORD_SEGMENT_SHIFT = 24;
+    private static final int RECORD_SEGMENT_MASK = (1 << RECORD_SEGMENT_SHIFT) - 1;
+
+    /**
+     *  数据映射段大小（1GB，单个回放不跨段存放）
+     * */
+    private static final int DATA_SEGMENT_SHIFT = 30;
+    private static final long DATA_SEGMENT_SIZE = 1L << DATA_SEGMENT_SHIFT;
+
+    private final FileChannel indexChannel;
+    private final FileChannel dataChannel;
+
+    /**
+     *  索引与数据的映射段
+     * */
+    private MappedByteBuffer[] indexSegments;
+    private MappedByteBuffer[] dataSegments;
+
+    /**
+     *  已映射的数据长度
+     * */
+    private long mappedDataSize;
+
+    /**
+     *  记录数目
+     * */
+    private int size;
+
+    /**
+     *  已映射的记录数目
+     * */
+    private int mappedSize;
+
+    /**
+     *  数据文件追加位置
+     * */
+    private long dataEnd;
+
+    /**
+     *  索引记录写出缓冲区
+     * */
+    private final ByteBuffer recordBuffer;
+
+    /**
+     *  打开（或创建）回放归档
+     *
+     *  @param directory 归档目录
+     *  @throws IOException 文件读写失败或索引文件格式错误
+     * */
+    public ReplayArchive(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        indexChannel = FileChannel.open(directory.resolve("replays.idx"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        dataChannel = FileChannel.open(directory.resolve("replays.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recordBuffer = ByteBuffer.allocate(RECORD_LENGTH);
+        indexSegments = new MappedByteBuffer[0];
+        dataSegments = new MappedByteBuffer[0];
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        if (indexChannel.size() == 0) {
+            header.put(MAGIC).put(VERSION).putInt(RECORD_LENGTH).flip();
+            indexChannel.write(header, 0);
+        }
+        else {
+            indexChannel.read(header, 0);
+            header.flip();
+            for (byte b : MAGIC) {
+                if (!header.hasRemaining() || header.get() != b) {
+                    throw new IOException("bad replay archive magic");
+                }
+            }
+            if (header.remaining() < 5 || header.get() != VERSION || header.getInt() != RECORD_LENGTH) {
+                throw new IOException("unsupported replay archive version");
+            }
+        }
+
+        // 写入中断时索引末尾可能残留不完整记录，忽略之；数据文件从最后一条完整记录之后继续追加
+        size = (int) ((indexChannel.size() - HEADER_LENGTH) / RECORD_LENGTH);
+        mapIndex();
+        dataEnd = size == 0 ? 0 : getOffset(size - 1) + getLength(size - 1);
+    }
+
+    /**
+     *  追加一局回放
+     *
+     *  @param data 回放数据（ReplayFormat 格式）
+     *  @param offset 数据起始位置
+     *  @param length 数据长度
+     *  @param score 得分
+     *  @param lines 消除行数
+     *  @param duration 对局时长（推进次数）
+     *  @return 对局编号
+     *  @throws IOException 写出失败
+     * */
+    public synchronized long append(byte[] data, int offset, int length, int score, int lines, long duration) throws IOException {
+        if (length < ReplayFormat.HEADER_LENGTH || length > DATA_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("bad replay length " + length);
+        }
+        // 放不下时跳至下一段起始位置，保证单个回放可由一个映射段切片得到
+        long position = dataEnd;
+        if ((position & (DATA_SEGMENT_SIZE - 1)) + length > DATA_SEGMENT_SIZE) {
+            position = (position + DATA_SEGMENT_SIZE) & -DATA_SEGMENT_SIZE;
+        }
+        ByteBuffer source = ByteBuffer.wrap(data, offset, length);
+        while (source.hasRemaining()) {
+            dataChannel.write(source, position + source.position() - offset);
+        }
+
+        // 数据写出后再写索引，索引中的记录总是指向完整的数据
+        long gameId = size;
+        recordBuffer.clear();
+        recordBuffer.putLong(GAME_ID, gameId)
+                .putLong(SEED, ReplayFormat.readLong(data, offset + 5))
+                .putLong(OFFSET, position)
+                .putLong(DURATION, duration)
+                .putInt(SCORE, score)
+                .putInt(LINES, lines)
+                .putInt(LENGTH, length)
+                .putInt(LENGTH + 4, 0);
+        long indexPosition = HEADER_LENGTH + (long) size * RECORD_LENGTH;
+        while (recordBuffer.hasRemaining()) {
+            indexChannel.write(recordBuffer, indexPosition + recordBuffer.position());
+        }
+        size++;
+        dataEnd = position + length;
+        return gameId;
+    }
+
+    /**
+     *  获取记录数目
+     * */
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getGameId(int index) {
+        return record(index).getLong(recordPosition(index) + GAME_ID);
+    }
+
+    public synchronized long getSeed(int index) {
+        return record(index).getLong(recordPosition(index) + SEED);
+    }
+
+    public synchronized long getDuration(int index) {
+        return record(index).getLong(recordPosition(index) + DURATION);
+    }
+
+    public synchronized int getScore(int index) {
+        return record(index).getInt(recordPosition(index) + SCORE);
+    }
+
+    public synchronized int getLines(int index) {
+        return record(index).getInt(recordPosition(index) + LINES);
+    }
+
+    /**
+     *  获取回放数据（内存映射缓冲区的只读切片，不复制数据）
+     *
+     *  @param index 记录序号
+     *  @return 回放数据，可直接交给 ReplayReader 或 ReplayPlayer
+     *  @throws IOException 映射失败
+     * */
+    public synchronized ByteBuffer getReplay(int index) throws IOException {
+        long offset = getOffset(index);
+        int length = getLength(index);
+        if (offset + length > mappedDataSize) {
+            mapData();
+        }
+        ByteBuffer slice = dataSegments[(int) (offset >>> DATA_SEGMENT_SHIFT)].duplicate();
+        int start = (int) (offset & (DATA_SEGMENT_SIZE - 1));
+        slice.limit(start + length).position(start);
+        return slice.slice();
+    }
+
+    /**
+     *  查询得分最高的若干局（只扫描索引）
+     *
+     *  @param result 结果数组，按得分从高到低填入记录序号，数组长度即查询数目
+     *  @return 实际填入的数目
+     * */
+    public synchronized int topByScore(int[] result) {
+        int n = Math.min(result.length, size);
+        if (n == 0) {
+            return 0;
+        }
+        // 以 result 前 n 个位置作为小根堆，堆顶为当前入选的最低分
+        for (int i = 0; i < size; i++) {
+            if (i < n) {
+                result[i] = i;
+                siftUp(result, i);
+            }
+            else if (getScore(i) > getScore(result[0])) {
+                result[0] = i;
+                siftDown(result, 0, n);
+            }
+        }
+        // 依次取出堆顶放至末尾，得到从高到低的顺序
+        for (int end = n - 1; end > 0; end--) {
+            swap(result, 0, end);
+            siftDown(result, 0, end);
+        }
+        return n;
+    }
+
+    /**
+     *  遍历得分在指定范围内的对局（只扫描索引）
+     *
+     *  @param minScore 最低得分（包含）
+     *  @param maxScore 最高得分（包含）
+     *  @param consumer 接收记录序号
+     * */
+    public void forEachByScore(int minScore, int maxScore, IntConsumer consumer) {
+        int counts = size();
+        for (int i = 0; i < counts; i++) {
+            int score = getScore(i);
+            if (score >= minScore && score <= maxScore) {
+                consumer.accept(i);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        indexSegments = new MappedByteBuffer[0];
+        dataSegments = new MappedByteBuffer[0];
+        indexChannel.close();
+        dataChannel.close();
+    }
+
+    private long getOffset(int index) {
+        return record(index).getLong(recordPosition(index) + OFFSET);
+    }
+
+    private int getLength(int index) {
+        return record(index).getInt(recordPosition(index) + LENGTH);
+    }
+
+    /**
+     *  获取记录所在的索引映射段（必要时重新映射）
+     * */
+    private ByteBuffer record(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        if (index >= mappedSize) {
+            try {
+                mapIndex();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return indexSegments[index >>> RECORD_SEGMENT_SHIFT];
+    }
+
+    private static int recordPosition(int index) {
+        return (index & RECORD_SEGMENT_MASK) * RECORD_LENGTH;
+    }
+
+    /**
+     *  映射全部索引记录（已映射的完整段保持不变，仅重新映射最后一段）
+     * */
+    private void mapIndex() throws IOException {
+        int segmentCounts = (size + RECORD_SEGMENT_MASK) >>> RECORD_SEGMENT_SHIFT;
+        int first = Math.max(0, (mappedSize >>> RECORD_SEGMENT_SHIFT));
+        indexSegments = Arrays.copyOf(indexSegments, segmentCounts);
+        for (int i = first; i < segmentCounts; i++) {
+            int records = Math.min(size - (i << RECORD_SEGMENT_SHIFT), 1 << RECORD_SEGMENT_SHIFT);
+            long position = HEADER_LENGTH + ((long) i << RECORD_SEGMENT_SHIFT) * RECORD_LENGTH;
+            indexSegments[i] = indexChannel.map(FileChannel.MapMode.READ_ONLY, position, (long) records * RECORD_LENGTH);
+        }
+        mappedSize = size;
+    }
+
+    /**
+     *  映射全部回放数据（已映射的完整段保持不变，仅重新映射最后一段）
+     * */
+    private void mapData() throws IOException {
+        long dataSize = dataChannel.size();
+        int segmentCounts = (int) ((dataSize + DATA_SEGMENT_SIZE - 1) >>> DATA_SEGMENT_SHIFT);
+        int first = (int) (mappedDataSize >>> DATA_SEGMENT_SHIFT);
+        dataSegments = Arrays.copyOf(dataSegments, segmentCounts);
+        for (int i = first; i < segmentCounts; i++) {
+            long position = (long) i << DATA_SEGMENT_SHIFT;
+            long length = Math.min(dataSize - position, DATA_SEGMENT_SIZE);
+            dataSegments[i] = dataChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+        mappedDataSize = dataSize;
+    }
+
+    /**
+     *  小根堆操作（按得分比较）
+     * */
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (getScore(heap[i]) >= getScore(heap[parent])) {
+                break;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int i, int n) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && getScore(heap[child + 1]) < getScore(heap[child])) {
+                child++;
+            }
+            if (getScore(heap[i]) <= getScore(heap[child])) {
+                break;
+            }
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+}
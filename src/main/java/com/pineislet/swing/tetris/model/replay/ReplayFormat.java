@@ -0,0 +1,96 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import com.pineislet.swing.tetris.model.InputAction;
+
+/**
+ * 回放二进制格式
+ *
+ * 文件头（15 字节）：
+ *      0——3    魔数 'T' 'R' 'P' 及格式版本号
+ *      4       随机生成器类型（Randomizer.Type 序号）
+ *      5——12   随机种子（大端序）
+ *      13      初始速度级别
+ *      14      初始敏感度级别
+ *
+ * 记录（变长）：
+ *      varint((推进次数增量 << 4) | 操作码) [参数字节]
+ *      操作码 0——14 为 InputAction 序号，其中设置级别类动作带 1 字节参数
+ *      操作码 15 为游戏状态改变，带 1 字节参数（GameStatus 序号），状态为结束或准备时回放终止
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public final class ReplayFormat {
+
+    /**
+     *  魔数及格式版本号
+     * */
+    public static final byte[] MAGIC = {'T', 'R', 'P'};
+    public static final byte VERSION = 1;
+
+    /**
+     *  文件头长度
+     * */
+    public static final int HEADER_LENGTH = 15;
+
+    /**
+     *  操作码位数
+     * */
+    public static final int OPCODE_BITS = 4;
+    public static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+
+    /**
+     *  游戏状态改变操作码
+     * */
+    public static final int STATUS_OPCODE = OPCODE_MASK;
+
+    private ReplayFormat() {
+    }
+
+    /**
+     *  判断操作码是否带参数
+     * */
+    public static boolean hasArgument(int opcode) {
+        return opcode == STATUS_OPCODE
+                || opcode == InputAction.SET_SPEED_LEVEL.ordinal()
+                || opcode == InputAction.SET_SENSITIVITY_LEVEL.ordinal();
+    }
+
+    /**
+     *  写入无符号变长整数（每字节 7 位，低位在前）
+     *
+     *  @return 写入后的位置
+     * */
+    public static int writeVarLong(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    /**
+     *  写入大端序长整数
+     *
+     *  @return 写入后的位置
+     * */
+    public static int writeLong(byte[] buffer, int position, long value) {
+        for (int i = 7; i >= 0; i--) {
+            buffer[position++] = (byte) (value >>> (i * 8));
+        }
+        return position;
+    }
+
+    /**
+     *  读取大端序长整数
+     * */
+    public static long readLong(byte[] buffer, int position) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,425 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import com.pineislet.swing.tetris.model.InputAction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.impl.GameState;
+import com.pineislet.swing.tetris.model.impl.Randomizers;
+import com.pineislet.swing.tetris.model.impl.TetrisModelImpl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 回放播放器
+ * 在无界面模型上按记录重新模拟游戏，可按倍速或最快速度播放；
+ * 构造时先完整模拟一遍，每锁定固定数目砖块保存一个关键帧，跳转时从目标之前最近的关键帧开始模拟，至多模拟一个关键帧间隔
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ReplayPlayer {
+
+    /**
+     *  默认关键帧间隔（砖块数）
+     * */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 50;
+
+    /**
+     *  最快速度播放时每批推进次数
+     * */
+    private static final int MAX_SPEED_BATCH = 2000;
+
+    /**
+     *  倍速播放时单次唤醒最多追赶的推进次数（乘以倍数）
+     * */
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    /**
+     *  原子时间单位（纳秒）
+     * */
+    private static final long ATOMIC_NANOS = TetrisModelImpl.ATOMIC_TIME * 1000000L;
+
+    /**
+     *  回放读取器
+     * */
+    private final ReplayReader reader;
+
+    /**
+     *  回放模型（无界面模式）
+     * */
+    private final TetrisModelImpl tetrisModel;
+
+    /**
+     *  关键帧列表及间隔
+     * */
+    private final List<Keyframe> keyframeList;
+    private final int keyframeInterval;
+
+    /**
+     *  待执行记录（hasRecord 为 false 时回放数据已读完）
+     *  recordPosition、recordBaseTick 为读取该记录前的读取位置及推进次数，用于关键帧还原
+     * */
+    private boolean hasRecord;
+    private int recordPosition;
+    private long recordBaseTick;
+
+    /**
+     *  回放结束标识
+     * */
+    private boolean finished;
+
+    /**
+     *  播放状态及速度
+     * */
+    private volatile boolean playing;
+    private volatile Speed speed;
+
+    /**
+     *  播放线程
+     * */
+    private PlaybackThread playbackThread;
+
+    public ReplayPlayer(ByteBuffer data) {
+        this(data, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     *  构造方法
+     *
+     *  @param data 回放数据
+     *  @param keyframeInterval 关键帧间隔（砖块数）
+     * */
+    public ReplayPlayer(ByteBuffer data, int keyframeInterval) {
+        this.reader = new ReplayReader(data);
+        this.keyframeInterval = Math.max(keyframeInterval, 1);
+        this.keyframeList = new ArrayList<>();
+        this.speed = Speed.NORMAL;
+
+        tetrisModel = new TetrisModelImpl(true, Randomizers.create(reader.getRandomizerType(), reader.getSeed()));
+        tetrisModel.setSpeedLevel(reader.getSpeedLevel());
+        tetrisModel.setSensitivityLevel(reader.getSensitivityLevel());
+        tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+
+        readRecord();
+        captureKeyframe();
+        buildKeyframes();
+    }
+
+    /**
+     *  完整模拟一遍回放以保存全部关键帧，再回到开头
+     *  此时模型尚无监听器，模拟过程不触发任何界面更新
+     * */
+    private void buildKeyframes() {
+        while (!finished) {
+            tick();
+        }
+        Keyframe first = keyframeList.get(0);
+        tetrisModel.restoreState(first.state);
+        reader.seek(first.recordPosition, first.recordBaseTick);
+        readRecord();
+        finished = false;
+    }
+
+    /**
+     *  获取回放模型
+     * */
+    public TetrisModelImpl getModel() {
+        return tetrisModel;
+    }
+
+    /**
+     *  推进回放
+     *
+     *  @param ticks 推进次数
+     *  @return 回放是否仍未结束
+     * */
+    public synchronized boolean advance(long ticks) {
+        for (long i = 0; i < ticks && !finished; i++) {
+            tick();
+        }
+        return !finished;
+    }
+
+    /**
+     *  跳转至指定砖块（该砖块锁定前的时刻）
+     *
+     *  @param piece 已锁定砖块数
+     * */
+    public synchronized void seekToPiece(int piece) {
+        piece = Math.max(piece, 0);
+        // 目标在当前位置之前，或存在更近的关键帧，则从关键帧开始模拟
+        int index = Math.min(piece / keyframeInterval, keyframeList.size() - 1);
+        while (index > 0 && keyframeList.get(index).state.getTileCounts() > piece) {
+            index--;
+        }
+        Keyframe keyframe = keyframeList.get(index);
+        if (piece < tetrisModel.getTileCounts() || keyframe.state.getTileCounts() > tetrisModel.getTileCounts()) {
+            tetrisModel.restoreState(keyframe.state);
+            reader.seek(keyframe.recordPosition, keyframe.recordBaseTick);
+            readRecord();
+            finished = false;
+        }
+        while (!finished && tetrisModel.getTileCounts() < piece) {
+            tick();
+        }
+    }
+
+    /**
+     *  获取当前砖块（已锁定砖块数）
+     * */
+    public int getPiece() {
+        return tetrisModel.getTileCounts();
+    }
+
+    /**
+     *  开始播放
+     * */
+    public synchronized void play() {
+        if (finished) {
+            return;
+        }
+        playing = true;
+        if (null == playbackThread) {
+            playbackThread = new PlaybackThread();
+            playbackThread.start();
+        }
+        else {
+            LockSupport.unpark(playbackThread);
+        }
+    }
+
+    /**
+     *  暂停播放
+     * */
+    public void pause() {
+        playing = false;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    public Speed getSpeed() {
+        return speed;
+    }
+
+    /**
+     *  设置播放速度
+     * */
+    public void setSpeed(Speed speed) {
+        this.speed = speed;
+        if (null != playbackThread) {
+            LockSupport.unpark(playbackThread);
+        }
+    }
+
+    /**
+     *  推进一次：执行本次推进前的全部记录，再推进模型
+     * */
+    private void tick() {
+        while (hasRecord && reader.getTick() <= tetrisModel.getTicks()) {
+            applyRecord();
+            readRecord();
+            if (finished) {
+                return;
+            }
+        }
+
+        if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.PLAYING) {
+            tetrisModel.step(1);
+            captureKeyframe();
+        }
+        if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.OVER
+                || (!hasRecord && tetrisModel.getGameStatus() != TetrisModel.GameStatus.PLAYING)) {
+            finished = true;
+        }
+    }
+
+    /**
+     *  读取下一条记录
+     * */
+    private void readRecord() {
+        recordPosition = reader.getPosition();
+        recordBaseTick = reader.getTick();
+        hasRecord = reader.next();
+    }
+
+    /**
+     *  执行当前记录
+     * */
+    private void applyRecord() {
+        int opcode = reader.getOpcode();
+        if (opcode == ReplayFormat.STATUS_OPCODE) {
+            TetrisModel.GameStatus status = TetrisModel.GameStatus.values()[reader.getArgument()];
+            if (status == TetrisModel.GameStatus.OVER || status == TetrisModel.GameStatus.PREPARE) {
+                finished = true;
+            }
+            else {
+                tetrisModel.changeGameStatus(status);
+            }
+            return;
+        }
+        InputAction action = InputAction.getAction(opcode);
+        if (null == action) {
+            return;
+        }
+        switch (action) {
+            case MOVE_LEFT:
+                tetrisModel.moveLeft();
+                break;
+            case START_MOVE_LEFT:
+                tetrisModel.startMoveLeft();
+                break;
+            case STOP_MOVE_LEFT:
+                tetrisModel.stopMoveLeft();
+                break;
+            case MOVE_RIGHT:
+                tetrisModel.moveRight();
+                break;
+            case START_MOVE_RIGHT:
+                tetrisModel.startMoveRight();
+                break;
+            case STOP_MOVE_RIGHT:
+                tetrisModel.stopMoveRight();
+                break;
+            case SPIN_POS:
+                tetrisModel.spinPos();
+                break;
+            case SPIN_NEG:
+                tetrisModel.spinNeg();
+                break;
+            case SPIN_REV:
+                tetrisModel.spinRev();
+                break;
+            case START_SOFT_DOWN:
+                tetrisModel.startSoftDown();
+                break;
+            case STOP_SOFT_DOWN:
+                tetrisModel.stopSoftDown();
+                break;
+            case HARD_DOWN:
+                tetrisModel.hardDown();
+                break;
+            case HOLD:
+                tetrisModel.hold();
+                break;
+            case SET_SPEED_LEVEL:
+                tetrisModel.setSpeedLevel(reader.getArgument());
+                break;
+            case SET_SENSITIVITY_LEVEL:
+                tetrisModel.setSensitivityLevel(reader.getArgument());
+                break;
+        }
+    }
+
+    /**
+     *  到达关键帧间隔时保存关键帧（全部关键帧在构造时保存完毕，之后的播放不再新增）
+     * */
+    private void captureKeyframe() {
+        if (tetrisModel.getTileCounts() >= keyframeList.size() * keyframeInterval) {
+            Keyframe keyframe = new Keyframe();
+            tetrisModel.saveState(keyframe.state);
+            keyframe.recordPosition = recordPosition;
+            keyframe.recordBaseTick = recordBaseTick;
+            keyframeList.add(keyframe);
+        }
+    }
+
+    /**
+     *  枚举 播放速度
+     * */
+    public enum Speed {
+        /**
+         *  1 倍速
+         * */
+        NORMAL(1),
+        /**
+         *  4 倍速
+         * */
+        FAST(4),
+        /**
+         *  最快速度
+         * */
+        MAX(0);
+
+        /**
+         *  倍数（0 表示不限速）
+         * */
+        private final int multiple;
+
+        Speed(int multiple) {
+            this.multiple = multiple;
+        }
+
+        public int getMultiple() {
+            return multiple;
+        }
+    }
+
+    /**
+     *  关键帧
+     * */
+    private static class Keyframe {
+        private final GameState state = new GameState();
+        private int recordPosition;
+        private long recordBaseTick;
+    }
+
+    /**
+     *  播放线程
+     * */
+    private class PlaybackThread extends Thread {
+
+        public PlaybackThread() {
+            super("tetris-replay");
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long nextTick = System.nanoTime();
+            while (true) {
+                // 暂停时挂起，唤醒后重新计时
+                if (!playing) {
+                    LockSupport.park(this);
+                    nextTick = System.nanoTime();
+                    continue;
+                }
+
+                Speed currentSpeed = speed;
+                boolean alive;
+                if (currentSpeed == Speed.MAX) {
+                    alive = advance(MAX_SPEED_BATCH);
+                    Thread.yield();
+                    nextTick = System.nanoTime();
+                }
+                else {
+                    // 按倍速追赶到期的推进，落后过多时丢弃积压的推进
+                    long tickNanos = ATOMIC_NANOS / currentSpeed.getMultiple();
+                    long now = System.nanoTime();
+                    int ticks = 0;
+                    alive = true;
+                    while (alive && now - nextTick >= 0 && ticks < MAX_CATCH_UP_TICKS * currentSpeed.getMultiple()) {
+                        alive = advance(1);
+                        nextTick += tickNanos;
+                        ticks++;
+                    }
+                    if (now - nextTick >= 0) {
+                        nextTick = now + tickNanos;
+                    }
+                    LockSupport.parkNanos(this, nextTick - now);
+                }
+                if (!alive) {
+                    playing = false;
+                }
+            }
+        }
+    }
+}
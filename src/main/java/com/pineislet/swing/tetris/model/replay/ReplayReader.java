@@ -0,0 +1,147 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import com.pineislet.swing.tetris.model.Randomizer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 回放读取器
+ * 直接按绝对位置读取 ByteBuffer（可为内存映射缓冲区的切片），不复制数据
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ReplayReader {
+
+    private static final Randomizer.Type[] RANDOMIZER_TYPES = Randomizer.Type.values();
+
+    /**
+     *  回放数据及其起止位置
+     * */
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int limit;
+
+    /**
+     *  文件头信息
+     * */
+    private final Randomizer.Type randomizerType;
+    private final long seed;
+    private final int speedLevel;
+    private final int sensitivityLevel;
+
+    /**
+     *  读取位置
+     * */
+    private int position;
+
+    /**
+     *  当前记录
+     * */
+    private long tick;
+    private int opcode;
+    private int argument;
+
+    /**
+     *  构造方法
+     *
+     *  @param buffer 回放数据（从 position 至 limit）
+     *  @throws IllegalArgumentException 数据不是回放格式
+     * */
+    public ReplayReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+        this.limit = buffer.limit();
+        if (limit - start < ReplayFormat.HEADER_LENGTH) {
+            throw new IllegalArgumentException("replay too short");
+        }
+        for (int i = 0; i < ReplayFormat.MAGIC.length; i++) {
+            if (buffer.get(start + i) != ReplayFormat.MAGIC[i]) {
+                throw new IllegalArgumentException("bad replay magic");
+            }
+        }
+        if (buffer.get(start + 3) != ReplayFormat.VERSION) {
+            throw new IllegalArgumentException("unsupported replay version " + buffer.get(start + 3));
+        }
+        int type = buffer.get(start + 4);
+        if (type < 0 || type >= RANDOMIZER_TYPES.length) {
+            throw new IllegalArgumentException("unknown randomizer type " + type);
+        }
+        randomizerType = RANDOMIZER_TYPES[type];
+        seed = buffer.getLong(start + 5);
+        speedLevel = buffer.get(start + 13);
+        sensitivityLevel = buffer.get(start + 14);
+        position = start + ReplayFormat.HEADER_LENGTH;
+    }
+
+    /**
+     *  读取下一条记录
+     *
+     *  @return 是否读取成功（数据结束时返回 false）
+     * */
+    public boolean next() {
+        if (position >= limit) {
+            return false;
+        }
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(position++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0 && position < limit);
+
+        tick += value >>> ReplayFormat.OPCODE_BITS;
+        opcode = (int) (value & ReplayFormat.OPCODE_MASK);
+        argument = 0;
+        if (ReplayFormat.hasArgument(opcode) && position < limit) {
+            argument = buffer.get(position++);
+        }
+        return true;
+    }
+
+    /**
+     *  跳转至指定读取位置（用于关键帧）
+     *
+     *  @param position 由 getPosition 获取的读取位置
+     *  @param tick 该位置之前最后一条记录的推进次数
+     * */
+    public void seek(int position, long tick) {
+        this.position = position;
+        this.tick = tick;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public int getArgument() {
+        return argument;
+    }
+
+    public Randomizer.Type getRandomizerType() {
+        return randomizerType;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getSpeedLevel() {
+        return speedLevel;
+    }
+
+    public int getSensitivityLevel() {
+        return sensitivityLevel;
+    }
+}
@@ -0,0 +1,166 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import com.pineislet.swing.tetris.model.InputAction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.event.OnInputActionListener;
+import com.pineislet.swing.tetris.model.event.OnStatusChangedListener;
+import com.pineislet.swing.tetris.model.event.StatusChangedEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * 回放录制器
+ * 监听模型输入动作与状态改变，按 ReplayFormat 编码为二进制记录，写满一块或一局结束时交给 ReplayWriter
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ReplayRecorder implements OnInputActionListener, OnStatusChangedListener {
+
+    /**
+     *  数据块大小
+     * */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     *  单条记录最大长度（10 字节变长整数 + 1 字节参数）
+     * */
+    private static final int MAX_RECORD_LENGTH = 11;
+
+    /**
+     *  录制模型
+     * */
+    private final TetrisModel tetrisModel;
+
+    /**
+     *  回放写出器
+     * */
+    private final ReplayWriter replayWriter;
+
+    /**
+     *  输出目标工厂（每局创建一个输出目标）
+     * */
+    private final Supplier<ReplaySink> sinkFactory;
+
+    /**
+     *  当前写出会话（未在录制时为空）
+     * */
+    private ReplayWriter.Session session;
+
+    /**
+     *  当前数据块及其已写入长度
+     * */
+    private byte[] buffer;
+    private int length;
+
+    /**
+     *  上一条记录的推进次数
+     * */
+    private long lastTick;
+
+    /**
+     *  最近一次记录时的得分与消除行数（回到准备状态时模型已清零，以此作为本局统计）
+     * */
+    private int lastScore;
+    private int lastLines;
+
+    public ReplayRecorder(TetrisModel tetrisModel, ReplayWriter replayWriter, Supplier<ReplaySink> sinkFactory) {
+        this.tetrisModel = tetrisModel;
+        this.replayWriter = replayWriter;
+        this.sinkFactory = sinkFactory;
+    }
+
+    /**
+     *  开始监听模型
+     * */
+    public void attach() {
+        tetrisModel.addOnInputActionListener(this);
+        tetrisModel.addOnStatusChangedListener(this);
+    }
+
+    /**
+     *  停止监听模型（正在录制的回放以准备状态结束）
+     * */
+    public void detach() {
+        tetrisModel.removeOnInputActionListener(this);
+        tetrisModel.removeOnStatusChangedListener(this);
+        if (null != session) {
+            finish(TetrisModel.GameStatus.PREPARE, lastTick);
+        }
+    }
+
+    @Override
+    public void onInputAction(InputAction action, int argument, long tick) {
+        if (null != session) {
+            writeRecord(action.ordinal(), argument, tick);
+        }
+    }
+
+    @Override
+    public void onStatusChanged(StatusChangedEvent event) {
+        TetrisModel.GameStatus current = event.getCurrentStatus();
+        long tick = tetrisModel.getTicks();
+        if (current == TetrisModel.GameStatus.PLAYING && event.getLastStatus() == TetrisModel.GameStatus.PREPARE) {
+            begin();
+        }
+        else if (null != session) {
+            if (current == TetrisModel.GameStatus.OVER || current == TetrisModel.GameStatus.PREPARE) {
+                finish(current, tick);
+            }
+            else {
+                writeRecord(ReplayFormat.STATUS_OPCODE, current.ordinal(), tick);
+            }
+        }
+    }
+
+    /**
+     *  开始录制一局回放，写入文件头
+     * */
+    private void begin() {
+        session = replayWriter.open(sinkFactory);
+        buffer = new byte[CHUNK_SIZE];
+        System.arraycopy(ReplayFormat.MAGIC, 0, buffer, 0, ReplayFormat.MAGIC.length);
+        buffer[3] = ReplayFormat.VERSION;
+        buffer[4] = (byte) tetrisModel.getRandomizerType().ordinal();
+        ReplayFormat.writeLong(buffer, 5, tetrisModel.getSeed());
+        buffer[13] = (byte) tetrisModel.getSpeedLevel();
+        buffer[14] = (byte) tetrisModel.getSensitivityLevel();
+        length = ReplayFormat.HEADER_LENGTH;
+        lastTick = 0;
+        lastScore = 0;
+        lastLines = 0;
+    }
+
+    /**
+     *  写入结束记录并提交最后一块
+     * */
+    private void finish(TetrisModel.GameStatus status, long tick) {
+        long duration = Math.max(tick, lastTick);
+        writeRecord(ReplayFormat.STATUS_OPCODE, status.ordinal(), tick);
+        session.finish(buffer, length, lastScore, lastLines, duration);
+        session = null;
+        buffer = null;
+    }
+
+    /**
+     *  写入一条记录，数据块将满时提交并换新块
+     * */
+    private void writeRecord(int opcode, int argument, long tick) {
+        if (length + MAX_RECORD_LENGTH > buffer.length) {
+            session.submit(buffer, length);
+            buffer = new byte[CHUNK_SIZE];
+            length = 0;
+        }
+        long delta = Math.max(tick - lastTick, 0);
+        lastTick = tick;
+        if (tetrisModel.getGameStatus() != TetrisModel.GameStatus.PREPARE) {
+            lastScore = tetrisModel.getScore();
+            lastLines = tetrisModel.getLines();
+        }
+        length = ReplayFormat.writeVarLong(buffer, length, (delta << ReplayFormat.OPCODE_BITS) | opcode);
+        if (ReplayFormat.hasArgument(opcode)) {
+            buffer[length++] = (byte) argument;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import java.io.IOException;
+
+/**
+ * 回放数据输出目标
+ * 仅由 ReplayWriter 的写出线程调用
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface ReplaySink {
+
+    /**
+     *  写出回放数据
+     * */
+    void write(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     *  回放结束
+     *
+     *  @param score 本局得分
+     *  @param lines 本局消除行数
+     *  @param ticks 本局推进次数
+     * */
+    void close(int score, int lines, long ticks) throws IOException;
+}
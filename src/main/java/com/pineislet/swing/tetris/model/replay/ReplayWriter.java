@@ -0,0 +1,173 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 回放写出器
+ * 多个录制会话共享一个写出线程：游戏线程仅将数据块放入无锁队列，不等待任何 IO
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ReplayWriter {
+
+    /**
+     *  待写出数据块队列
+     * */
+    private final ConcurrentLinkedQueue<Chunk> chunkQueue;
+
+    /**
+     *  写出线程
+     * */
+    private final Thread writerThread;
+
+    /**
+     *  运行标识
+     * */
+    private volatile boolean running;
+
+    public ReplayWriter() {
+        chunkQueue = new ConcurrentLinkedQueue<>();
+        running = true;
+        writerThread = new Thread(this::drain, "tetris-replay-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     *  创建写出会话（不进行 IO，输出目标在首次写出时由写出线程创建）
+     *
+     *  @param sinkFactory 输出目标工厂
+     *  @return 写出会话
+     * */
+    public Session open(Supplier<ReplaySink> sinkFactory) {
+        return new Session(sinkFactory);
+    }
+
+    /**
+     *  停止写出器（写出队列中剩余数据后返回）
+     * */
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     *  写出线程循环
+     * */
+    private void drain() {
+        while (true) {
+            Chunk chunk = chunkQueue.poll();
+            if (null != chunk) {
+                chunk.session.write(chunk);
+            }
+            else if (running) {
+                LockSupport.park(this);
+            }
+            else {
+                break;
+            }
+        }
+    }
+
+    /**
+     *  写出会话（对应一局回放）
+     * */
+    public class Session {
+        private final Supplier<ReplaySink> sinkFactory;
+
+        /**
+         *  输出目标（仅写出线程访问）
+         * */
+        private ReplaySink sink;
+
+        /**
+         *  写出失败标识（失败后丢弃后续数据）
+         * */
+        private boolean failed;
+
+        private Session(Supplier<ReplaySink> sinkFactory) {
+            this.sinkFactory = sinkFactory;
+        }
+
+        /**
+         *  提交数据块（不阻塞，调用后不可再修改 data）
+         *
+         *  @param data 数据
+         *  @param length 数据长度
+         * */
+        public void submit(byte[] data, int length) {
+            chunkQueue.offer(new Chunk(this, data, length, false, 0, 0, 0));
+            LockSupport.unpark(writerThread);
+        }
+
+        /**
+         *  提交最后一块数据并结束会话（不阻塞，调用后不可再修改 data）
+         *
+         *  @param data 数据
+         *  @param length 数据长度
+         *  @param score 本局得分
+         *  @param lines 本局消除行数
+         *  @param ticks 本局推进次数
+         * */
+        public void finish(byte[] data, int length, int score, int lines, long ticks) {
+            chunkQueue.offer(new Chunk(this, data, length, true, score, lines, ticks));
+            LockSupport.unpark(writerThread);
+        }
+
+        private void write(Chunk chunk) {
+            if (failed) {
+                return;
+            }
+            try {
+                if (null == sink) {
+                    sink = sinkFactory.get();
+                }
+                sink.write(chunk.data, 0, chunk.length);
+                if (chunk.last) {
+                    sink.close(chunk.score, chunk.lines, chunk.ticks);
+                }
+            } catch (IOException | UncheckedIOException e) {
+                failed = true;
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     *  数据块
+     * */
+    private static class Chunk {
+        private final Session session;
+        private final byte[] data;
+        private final int length;
+        private final boolean last;
+
+        /**
+         *  本局统计（仅最后一块有效）
+         * */
+        private final int score;
+        private final int lines;
+        private final long ticks;
+
+        private Chunk(Session session, byte[] data, int length, boolean last, int score, int lines, long ticks) {
+            this.session = session;
+            this.data = data;
+            this.length = length;
+            this.last = last;
+            this.score = score;
+            this.lines = lines;
+            this.ticks = ticks;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.pineislet.swing.tetris.model.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 输出至流的回放数据输出目标
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class StreamReplaySink implements ReplaySink {
+
+    private final OutputStream outputStream;
+
+    public StreamReplaySink(OutputStream outputStream) {
+        this.outputStream = new BufferedOutputStream(outputStream);
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) throws IOException {
+        outputStream.write(data, offset, length);
+    }
+
+    @Override
+    public void close(int score, int lines, long ticks) throws IOException {
+        outputStream.close();
+    }
+}
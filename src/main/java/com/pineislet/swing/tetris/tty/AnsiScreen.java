@@ -0,0 +1,239 @@
+package com.pineislet.swing.tetris.tty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * ANSI 终端屏幕
+ * 在内存中保存终端上已显示的字符及颜色，每帧在后台缓冲区中绘制完整画面，
+ * 输出时仅对与已显示内容不同的字符生成光标移动、颜色及字符的转义序列（连续的字符省略光标移动，相同颜色省略颜色设置）
+ * 仅支持 ASCII 字符（每个字符占一列）
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class AnsiScreen {
+
+    /**
+     *  颜色（对应 ANSI 的 8 种基本颜色，GRAY 为亮黑色）
+     * */
+    public static final int BLACK = 0;
+    public static final int RED = 1;
+    public static final int GREEN = 2;
+    public static final int YELLOW = 3;
+    public static final int BLUE = 4;
+    public static final int MAGENTA = 5;
+    public static final int CYAN = 6;
+    public static final int WHITE = 7;
+    public static final int GRAY = 8;
+
+    /**
+     *  未显示标记（与任何字符都不相同，用于强制全部重绘）
+     * */
+    private static final int UNDRAWN = -1;
+
+    /**
+     *  转义序列
+     * */
+    private static final byte ESC = 0x1b;
+    private static final String CLEAR_SCREEN = "\u001b[0m\u001b[2J";
+    private static final String ENTER_SCREEN = "\u001b[?1049h\u001b[?25l";
+    private static final String EXIT_SCREEN = "\u001b[0m\u001b[?25h\u001b[?1049l";
+
+    /**
+     *  行数与列数
+     * */
+    private final int rows;
+    private final int columns;
+
+    /**
+     *  后台缓冲区及已显示内容（每个字符为 颜色 << 8 | 字符，颜色为 背景色 << 4 | 前景色）
+     * */
+    private final int[] backCells;
+    private final int[] frontCells;
+
+    /**
+     *  输出缓冲区
+     * */
+    private final OutputStream outputStream;
+    private byte[] buffer = new byte[4096];
+    private int length;
+
+    /**
+     *  上一帧输出的字节数
+     * */
+    private int lastFrameBytes;
+
+    public AnsiScreen(int rows, int columns, OutputStream outputStream) {
+        this.rows = rows;
+        this.columns = columns;
+        this.backCells = new int[rows * columns];
+        this.frontCells = new int[rows * columns];
+        this.outputStream = outputStream;
+        invalidate();
+    }
+
+    /**
+     *  进入全屏（备用屏幕缓冲区，隐藏光标）
+     * */
+    public void enter() throws IOException {
+        append(ENTER_SCREEN);
+        invalidate();
+        outputStream.write(buffer, 0, length);
+        outputStream.flush();
+        length = 0;
+    }
+
+    /**
+     *  退出全屏（恢复原屏幕及光标）
+     * */
+    public void exit() throws IOException {
+        append(EXIT_SCREEN);
+        outputStream.write(buffer, 0, length);
+        outputStream.flush();
+        length = 0;
+    }
+
+    /**
+     *  使已显示内容失效（下一帧清屏并全部重绘）
+     * */
+    public void invalidate() {
+        Arrays.fill(frontCells, UNDRAWN);
+    }
+
+    /**
+     *  清空后台缓冲区
+     * */
+    public void clear(int background) {
+        Arrays.fill(backCells, cell(' ', WHITE, background));
+    }
+
+    /**
+     *  在后台缓冲区写入一个字符（超出屏幕时忽略）
+     * */
+    public void put(int row, int column, char c, int foreground, int background) {
+        if (row >= 0 && row < rows && column >= 0 && column < columns) {
+            backCells[row * columns + column] = cell(c, foreground, background);
+        }
+    }
+
+    /**
+     *  在后台缓冲区写入字符串
+     * */
+    public void print(int row, int column, CharSequence text, int foreground, int background) {
+        for (int i = 0; i < text.length(); i++) {
+            put(row, column + i, text.charAt(i), foreground, background);
+        }
+    }
+
+    /**
+     *  将后台缓冲区与已显示内容的差异输出至终端
+     *
+     *  @return 改变的字符数
+     * */
+    public int flush() throws IOException {
+        length = 0;
+        if (frontCells[0] == UNDRAWN) {
+            append(CLEAR_SCREEN);
+        }
+
+        int changedCounts = 0;
+        int cursor = -1;            // 光标位置（-1 表示未知）
+        int attribute = -1;         // 当前颜色（-1 表示未知）
+        for (int index = 0; index < backCells.length; index++) {
+            int cell = backCells[index];
+            if (cell == frontCells[index]) {
+                continue;
+            }
+            // 光标不在该位置时移动光标
+            if (cursor != index) {
+                appendCursor(index / columns + 1, index % columns + 1);
+            }
+            // 颜色改变时设置颜色
+            int cellAttribute = cell >>> 8;
+            if (cellAttribute != attribute) {
+                appendAttribute(cellAttribute);
+                attribute = cellAttribute;
+            }
+            appendByte((byte) cell);
+            frontCells[index] = cell;
+            // 行末字符输出后光标位置不确定
+            cursor = (index + 1) % columns == 0 ? -1 : index + 1;
+            changedCounts++;
+        }
+
+        if (length > 0) {
+            outputStream.write(buffer, 0, length);
+            outputStream.flush();
+        }
+        lastFrameBytes = length;
+        return changedCounts;
+    }
+
+    /**
+     *  获取上一帧输出的字节数
+     * */
+    public int getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    private static int cell(char c, int foreground, int background) {
+        return (background << 4 | foreground) << 8 | (c < 0x80 ? c : '?');
+    }
+
+    /**
+     *  输出光标移动序列 ESC [ 行 ; 列 H
+     * */
+    private void appendCursor(int row, int column) {
+        appendByte(ESC);
+        appendByte((byte) '[');
+        appendNumber(row);
+        appendByte((byte) ';');
+        appendNumber(column);
+        appendByte((byte) 'H');
+    }
+
+    /**
+     *  输出颜色设置序列 ESC [ 前景色 ; 背景色 m
+     * */
+    private void appendAttribute(int attribute) {
+        int foreground = attribute & 0xf;
+        int background = attribute >>> 4;
+        appendByte(ESC);
+        appendByte((byte) '[');
+        appendNumber(foreground == GRAY ? 90 : 30 + foreground);
+        appendByte((byte) ';');
+        appendNumber(background == GRAY ? 100 : 40 + background);
+        appendByte((byte) 'm');
+    }
+
+    private void appendNumber(int number) {
+        if (number >= 10) {
+            appendNumber(number / 10);
+        }
+        appendByte((byte) ('0' + number % 10));
+    }
+
+    private void append(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            appendByte((byte) text.charAt(i));
+        }
+    }
+
+    private void appendByte(byte b) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[length++] = b;
+    }
+}
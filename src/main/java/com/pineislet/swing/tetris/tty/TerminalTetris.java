@@ -0,0 +1,376 @@
+package com.pineislet.swing.tetris.tty;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+import com.pineislet.swing.tetris.model.TileShape;
+import com.pineislet.swing.tetris.model.impl.TetrisModelImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 终端版游戏入口
+ * 在 ANSI 终端中游戏（可通过 SSH 在无图形界面的主机上游戏），不加载任何 AWT/Swing 类
+ * 通过 stty 将终端切换为非规范、无回显模式逐字节读取按键；终端没有按键松开事件，软降在一段时间内未收到按键（自动重复）时停止
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class TerminalTetris {
+
+    /**
+     *  按键
+     * */
+    private static final int START_KEY = '\r';          // 开始/重新准备
+    private static final int PAUSE_KEY = 'p';           // 暂停/恢复暂停
+    private static final int QUIT_KEY = 'q';            // 退出
+    private static final int LEFT_KEY = 'a';            // 左移（或方向键左）
+    private static final int RIGHT_KEY = 'd';           // 右移（或方向键右）
+    private static final int SOFT_DOWN_KEY = 's';       // 软降（或方向键下）
+    private static final int HARD_DOWN_KEY = ' ';       // 硬降
+    private static final int SPIN_POS_KEY = 'k';        // 顺时针旋转（或方向键上）
+    private static final int SPIN_NEG_KEY = 'j';        // 逆时针旋转
+    private static final int SPIN_REV_KEY = 'l';        // 180度旋转
+    private static final int HOLD_KEY = 'h';            // hold
+
+    /**
+     *  屏幕布局（行、列）
+     * */
+    private static final int SCREEN_ROWS = 23;
+    private static final int SCREEN_COLUMNS = 48;
+    private static final int HOLD_COLUMN = 1;
+    private static final int INFO_ROW = 7;
+    private static final int BOARD_COLUMN = 13;
+    private static final int FOLLOW_COLUMN = BOARD_COLUMN + 2 * TetrisModel.GAME_WIDTH + 3;
+    private static final int HELP_ROW = TetrisModel.GAME_HEIGHT + 1;
+
+    /**
+     *  两帧最小间隔、游戏中用时刷新间隔、软降松开判定时间（纳秒）
+     * */
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    private static final long TIME_REFRESH_NANOS = 100_000_000L;
+    private static final long SOFT_DOWN_RELEASE_NANOS = 150_000_000L;
+
+    /**
+     *  砖块颜色（下标为格子值的绝对值，与 PaintUtil 的配色相同）
+     * */
+    private static final int[] TILE_COLORS = {
+            AnsiScreen.BLACK, AnsiScreen.RED, AnsiScreen.YELLOW, AnsiScreen.BLUE,
+            AnsiScreen.CYAN, AnsiScreen.MAGENTA, AnsiScreen.GREEN, AnsiScreen.WHITE
+    };
+
+    private final TetrisModel tetrisModel;
+    private final AnsiScreen screen;
+
+    /**
+     *  显示缓冲区及其对应的状态版本号
+     * */
+    private final int[] displayBuffer = new int[TetrisModel.GAME_WIDTH * TetrisModel.GAME_HEIGHT];
+    private long displayVersion = -1;
+
+    /**
+     *  渲染线程及请求绘制标识
+     * */
+    private final Thread renderThread;
+    private volatile boolean frameRequested;
+
+    /**
+     *  软降标识及最近一次软降按键时间
+     * */
+    private volatile boolean softDown;
+    private volatile long softDownNanos;
+
+    public TerminalTetris(TetrisModel tetrisModel, AnsiScreen screen) {
+        this.tetrisModel = tetrisModel;
+        this.screen = screen;
+        this.renderThread = Thread.currentThread();
+    }
+
+    public static void main(String[] args) {
+        String savedMode = stty("-g");
+        if (null == savedMode || null == stty("-icanon -echo min 1")) {
+            System.err.println("a terminal is required");
+            return;
+        }
+        AnsiScreen screen = new AnsiScreen(SCREEN_ROWS, SCREEN_COLUMNS, new FileOutputStream(FileDescriptor.out));
+        // 退出（包括 Ctrl+C）时恢复终端
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                screen.exit();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            stty(savedMode.trim());
+        }));
+
+        TerminalTetris terminalTetris = new TerminalTetris(new TetrisModelImpl(), screen);
+        try {
+            screen.enter();
+            terminalTetris.run();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        System.exit(0);
+    }
+
+    /**
+     *  运行（在当前线程渲染，另起线程读取按键），退出键按下或输入结束时返回
+     * */
+    public void run() throws IOException {
+        Thread inputThread = new Thread(() -> readInput(System.in), "tetris-input");
+        inputThread.setDaemon(true);
+        inputThread.start();
+
+        tetrisModel.addOnVersionChangedListener(version -> requestFrame());
+        requestFrame();
+
+        long lastFrame = System.nanoTime() - FRAME_NANOS;
+        while (inputThread.isAlive()) {
+            long now = System.nanoTime();
+            // 一段时间内未收到软降按键，视为松开
+            if (softDown && now - softDownNanos > SOFT_DOWN_RELEASE_NANOS) {
+                softDown = false;
+                tetrisModel.stopSoftDown();
+            }
+            boolean playing = tetrisModel.getGameStatus() == TetrisModel.GameStatus.PLAYING;
+            boolean due = frameRequested || (playing && now - lastFrame >= TIME_REFRESH_NANOS);
+            if (due && now - lastFrame >= FRAME_NANOS) {
+                frameRequested = false;
+                draw();
+                screen.flush();
+                lastFrame = now;
+                continue;
+            }
+            // 等待下一帧、用时刷新或软降松开判定
+            if (due) {
+                LockSupport.parkNanos(this, lastFrame + FRAME_NANOS - now);
+            }
+            else if (playing || softDown) {
+                LockSupport.parkNanos(this, softDown ? FRAME_NANOS : lastFrame + TIME_REFRESH_NANOS - now);
+            }
+            else {
+                LockSupport.parkNanos(this, TIME_REFRESH_NANOS);
+            }
+        }
+    }
+
+    /**
+     *  请求绘制一帧（多次请求合并为一帧）
+     * */
+    private void requestFrame() {
+        if (!frameRequested) {
+            frameRequested = true;
+            LockSupport.unpark(renderThread);
+        }
+    }
+
+    /**
+     *  读取按键（在输入线程中执行，退出键按下或输入结束时返回）
+     * */
+    private void readInput(InputStream in) {
+        try {
+            int key;
+            while ((key = in.read()) >= 0) {
+                // 方向键 ESC [ A/B/C/D（序列各字节同时到达；单独按下 ESC 时后续字节尚未到达，不作为前缀，以免吞掉下一个按键）
+                if (key == 0x1b) {
+                    if (in.available() == 0) {
+                        continue;
+                    }
+                    if ((key = in.read()) < 0) {
+                        return;
+                    }
+                    if (key == '[') {
+                        switch (in.read()) {
+                            case 'A':
+                                key = SPIN_POS_KEY;
+                                break;
+                            case 'B':
+                                key = SOFT_DOWN_KEY;
+                                break;
+                            case 'C':
+                                key = RIGHT_KEY;
+                                break;
+                            case 'D':
+                                key = LEFT_KEY;
+                                break;
+                            default:
+                                continue;
+                        }
+                    }
+                }
+                // 先转为小写再判断退出键（大写锁定时 Q 同样退出）
+                key = Character.toLowerCase((char) key);
+                if (key == QUIT_KEY) {
+                    return;
+                }
+                onKey(key);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     *  处理按键
+     * */
+    private void onKey(int key) {
+        TetrisModel.GameStatus gameStatus = tetrisModel.getGameStatus();
+        switch (key) {
+            case START_KEY:
+            case '\n':
+                if (gameStatus == TetrisModel.GameStatus.PREPARE) {
+                    tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+                }
+                else if (gameStatus == TetrisModel.GameStatus.OVER) {
+                    tetrisModel.changeGameStatus(TetrisModel.GameStatus.PREPARE);
+                }
+                break;
+            case PAUSE_KEY:
+                if (gameStatus == TetrisModel.GameStatus.PLAYING) {
+                    tetrisModel.changeGameStatus(TetrisModel.GameStatus.PAUSE);
+                }
+                else if (gameStatus == TetrisModel.GameStatus.PAUSE) {
+                    tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+                }
+                break;
+            case LEFT_KEY:
+                tetrisModel.moveLeft();
+                break;
+            case RIGHT_KEY:
+                tetrisModel.moveRight();
+                break;
+            case SOFT_DOWN_KEY:
+                softDownNanos = System.nanoTime();
+                if (!softDown) {
+                    softDown = true;
+                    tetrisModel.startSoftDown();
+                    LockSupport.unpark(renderThread);
+                }
+                break;
+            case HARD_DOWN_KEY:
+                tetrisModel.hardDown();
+                break;
+            case SPIN_POS_KEY:
+                tetrisModel.spinPos();
+                break;
+            case SPIN_NEG_KEY:
+                tetrisModel.spinNeg();
+                break;
+            case SPIN_REV_KEY:
+                tetrisModel.spinRev();
+                break;
+            case HOLD_KEY:
+                tetrisModel.hold();
+                break;
+        }
+    }
+
+    /**
+     *  在屏幕后台缓冲区绘制一帧
+     * */
+    private void draw() {
+        boolean over = tetrisModel.getGameStatus() == TetrisModel.GameStatus.OVER;
+        screen.clear(AnsiScreen.BLACK);
+
+        // hold区
+        screen.print(0, HOLD_COLUMN, "HOLD", AnsiScreen.WHITE, AnsiScreen.BLACK);
+        Tile holdTile = tetrisModel.getHoldTile();
+        drawTile(1, HOLD_COLUMN, null == holdTile ? null : holdTile.getShape(Direction.NORTH), over);
+
+        // 信息区
+        Duration time = tetrisModel.getTime();
+        screen.print(INFO_ROW, HOLD_COLUMN, "SCORE", AnsiScreen.WHITE, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 1, HOLD_COLUMN, Integer.toString(tetrisModel.getScore()), AnsiScreen.YELLOW, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 3, HOLD_COLUMN, "LINES", AnsiScreen.WHITE, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 4, HOLD_COLUMN, Integer.toString(tetrisModel.getLines()), AnsiScreen.YELLOW, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 6, HOLD_COLUMN, "TIME", AnsiScreen.WHITE, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 7, HOLD_COLUMN, String.format("%02d:%02d.%d", time.getSeconds() / 60, time.getSeconds() % 60, time.getNano() / 100_000_000),
+                AnsiScreen.YELLOW, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 9, HOLD_COLUMN, tetrisModel.getGameStatus().name(), AnsiScreen.CYAN, AnsiScreen.BLACK);
+        screen.print(INFO_ROW + 11, HOLD_COLUMN, screen.getLastFrameBytes() + " B/f", AnsiScreen.GRAY, AnsiScreen.BLACK);
+
+        // 游戏区（每个格子占两列）
+        displayVersion = tetrisModel.fillGameDisplay(displayBuffer, displayVersion);
+        for (int i = 0; i < TetrisModel.GAME_HEIGHT; i++) {
+            screen.put(i, BOARD_COLUMN, '|', AnsiScreen.WHITE, AnsiScreen.BLACK);
+            for (int j = 0; j < TetrisModel.GAME_WIDTH; j++) {
+                drawCell(i, BOARD_COLUMN + 1 + 2 * j, displayBuffer[i * TetrisModel.GAME_WIDTH + j], over);
+            }
+            screen.put(i, BOARD_COLUMN + 1 + 2 * TetrisModel.GAME_WIDTH, '|', AnsiScreen.WHITE, AnsiScreen.BLACK);
+        }
+        for (int j = 0; j < 2 * TetrisModel.GAME_WIDTH + 2; j++) {
+            screen.put(TetrisModel.GAME_HEIGHT, BOARD_COLUMN + j, j == 0 || j == 2 * TetrisModel.GAME_WIDTH + 1 ? '+' : '-', AnsiScreen.WHITE, AnsiScreen.BLACK);
+        }
+
+        // 后续砖块区
+        screen.print(0, FOLLOW_COLUMN, "NEXT", AnsiScreen.WHITE, AnsiScreen.BLACK);
+        for (int i = 0; i < TetrisModel.FOLLOW_TILE_COUNTS; i++) {
+            Tile tile = tetrisModel.getFollowingTile(i);
+            drawTile(1 + 4 * i, FOLLOW_COLUMN, null == tile ? null : tile.getShape(Direction.NORTH), over);
+        }
+
+        // 操作说明
+        screen.print(HELP_ROW, 0, "ENTER start  P pause  Q quit", AnsiScreen.GRAY, AnsiScreen.BLACK);
+        screen.print(HELP_ROW + 1, 0, "A/D move  S drop  SPACE hard  J/K/L spin  H hold", AnsiScreen.GRAY, AnsiScreen.BLACK);
+    }
+
+    /**
+     *  绘制砖块形状（4 x 4 格子）
+     * */
+    private void drawTile(int row, int column, TileShape shape, boolean over) {
+        if (null == shape) {
+            return;
+        }
+        for (int k = 0; k < shape.getCellCounts(); k++) {
+            drawCell(row + shape.getCellRow(k), column + 2 * shape.getCellColumn(k), shape.getValue(), over);
+        }
+    }
+
+    /**
+     *  绘制单个格子（砖块为彩色方块，投影为彩色方括号，空格为灰色点）
+     * */
+    private void drawCell(int row, int column, int value, boolean over) {
+        int color = over ? AnsiScreen.GRAY : TILE_COLORS[Math.abs(value)];
+        if (value > 0) {
+            screen.print(row, column, "  ", color, color);
+        }
+        else if (value < 0) {
+            screen.print(row, column, "[]", color, AnsiScreen.BLACK);
+        }
+        else {
+            screen.print(row, column, " .", AnsiScreen.GRAY, AnsiScreen.BLACK);
+        }
+    }
+
+    /**
+     *  执行 stty 命令（作用于控制终端）
+     *
+     *  @param arguments stty 参数
+     *  @return 命令输出，执行失败时返回 null
+     * */
+    private static String stty(String arguments) {
+        try {
+            Process process = new ProcessBuilder("sh", "-c", "stty " + arguments + " < /dev/tty").redirectErrorStream(true).start();
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[256];
+            int length;
+            while ((length = process.getInputStream().read(buffer)) >= 0) {
+                output.write(buffer, 0, length);
+            }
+            return process.waitFor() == 0 ? output.toString() : null;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
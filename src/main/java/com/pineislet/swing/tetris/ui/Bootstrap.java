@@ -1,10 +1,28 @@
 package com.pineislet.swing.tetris.ui;
 
 import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.event.AsyncEventBus;
 import com.pineislet.swing.tetris.model.impl.TetrisModelImpl;
+import com.pineislet.swing.tetris.model.replay.ArchiveReplaySink;
+import com.pineislet.swing.tetris.model.replay.ReplayArchive;
+import com.pineislet.swing.tetris.model.replay.ReplayPlayer;
+import com.pineislet.swing.tetris.model.replay.ReplayRecorder;
+import com.pineislet.swing.tetris.model.replay.ReplayWriter;
+import com.pineislet.swing.tetris.model.replay.StreamReplaySink;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Create on 2015/1/17
@@ -12,6 +30,11 @@ import java.awt.*;
  * @author Yasenia
  */
 public class Bootstrap {
+    /**
+     *  异步事件总线容量
+     * */
+    private static final int EVENT_BUS_CAPACITY = 1024;
+
     public static void main(String[] args) {
         // 设置 lookAndFeel
         try {
@@ -25,13 +48,103 @@ public class Bootstrap {
             e.printStackTrace();
         }
 
-        // 启动游戏
+        // 指定回放文件时进入回放模式（指定归档目录时回放得分最高的一局，或第二个参数指定的一局）
+        if (args.length > 0) {
+            ReplayPlayer replayPlayer;
+            try {
+                ByteBuffer replay = readReplay(args[0], args.length > 1 ? args[1] : null);
+                if (null == replay) {
+                    return;
+                }
+                replayPlayer = new ReplayPlayer(replay);
+            } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+                e.printStackTrace();
+                return;
+            }
+            EventQueue.invokeLater(() -> {
+                JFrame frame = new TetrisFrame(replayPlayer);
+                frame.setLocationRelativeTo(null);
+                frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+                frame.setVisible(true);
+                replayPlayer.play();
+            });
+            return;
+        }
+
+        // 启动游戏（-Dtetris.boards 指定同屏棋盘数，默认 1）
+        int boardCounts = Math.max(1, Integer.getInteger("tetris.boards", 1));
         EventQueue.invokeLater(() -> {
-            TetrisModel model = new TetrisModelImpl();
-            JFrame frame = new TetrisFrame(model);
+            List<TetrisModel> models = new ArrayList<>(boardCounts);
+            for (int i = 0; i < boardCounts; i++) {
+                models.add(new TetrisModelImpl());
+            }
+            // 指定回放目录时录制每局游戏
+            String replayDir = System.getProperty("tetris.replay.dir");
+            String replayArchiveDir = System.getProperty("tetris.replay.archive");
+            if (null != replayArchiveDir) {
+                try {
+                    ReplayArchive replayArchive = new ReplayArchive(Paths.get(replayArchiveDir));
+                    for (TetrisModel model : models) {
+                        new ReplayRecorder(model, new ReplayWriter(), () -> new ArchiveReplaySink(replayArchive)).attach();
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+            else if (null != replayDir) {
+                for (int i = 0; i < models.size(); i++) {
+                    String prefix = models.size() > 1 ? "replay-" + i + "-" : "replay-";
+                    new ReplayRecorder(models.get(i), new ReplayWriter(), () -> {
+                        try {
+                            File file = new File(replayDir, prefix + System.currentTimeMillis() + ".trp");
+                            return new StreamReplaySink(new FileOutputStream(file));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }).attach();
+                }
+            }
+            // 指定溢出策略（block/drop/coalesce）时界面监听器经异步事件总线分发
+            AsyncEventBus eventBus = null;
+            String eventPolicy = System.getProperty("tetris.events");
+            if (null != eventPolicy) {
+                try {
+                    eventBus = new AsyncEventBus(EVENT_BUS_CAPACITY, AsyncEventBus.OverflowPolicy.valueOf(eventPolicy.toUpperCase(Locale.ROOT)));
+                    for (TetrisModel model : models) {
+                        eventBus.attach(model);
+                    }
+                } catch (IllegalArgumentException e) {
+                    e.printStackTrace();
+                }
+            }
+            JFrame frame = new TetrisFrame(models, eventBus);
             frame.setLocationRelativeTo(null);
             frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
             frame.setVisible(true);
         });
     }
+
+    /**
+     *  读取回放数据
+     *
+     *  @param source 回放文件或归档目录
+     *  @param gameId 归档中的局编号（为空时取得分最高的一局）
+     *  @return 回放数据，归档为空时返回 null
+     * */
+    static ByteBuffer readReplay(String source, String gameId) throws IOException {
+        Path path = Paths.get(source);
+        if (!Files.isDirectory(path)) {
+            return ByteBuffer.wrap(Files.readAllBytes(path));
+        }
+        ReplayArchive replayArchive = new ReplayArchive(path);
+        int[] top = new int[1];
+        if (null != gameId) {
+            top[0] = Integer.parseInt(gameId);
+        }
+        else if (replayArchive.topByScore(top) == 0) {
+            System.err.println("empty replay archive: " + path);
+            return null;
+        }
+        return replayArchive.getReplay(top[0]);
+    }
 }
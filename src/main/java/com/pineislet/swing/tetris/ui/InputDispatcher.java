@@ -0,0 +1,250 @@
+package com.pineislet.swing.tetris.ui;
+
+import com.pineislet.swing.tetris.model.InputAction;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.ui.util.LatencyTracker;
+import com.pineislet.swing.tetris.ui.util.RenderLoop;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 输入分发
+ * 窗口中全部棋盘共用一个键盘监听器：按键表将按键映射为（棋盘序号, 操作），前两个棋盘分别由两组按键控制，其余棋盘只显示（如观看机器人对局）
+ * 开始、暂停及调试信息键作用于全部棋盘
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class InputDispatcher implements KeyListener {
+
+    /**
+     *  全局按键
+     * */
+    static final int START_KEY = KeyEvent.VK_F1;               // 开始
+    static final int PAUSE_KEY = KeyEvent.VK_ESCAPE;           // 暂停/恢复暂停
+    static final int DEBUG_KEY = KeyEvent.VK_F3;               // 显示/隐藏调试信息
+
+    /**
+     *  棋盘操作
+     * */
+    private static final int MOVE_LEFT = 0;                    // 左移
+    private static final int MOVE_RIGHT = 1;                   // 右移
+    private static final int SOFT_DOWN = 2;                    // 软降
+    private static final int HARD_DOWN = 3;                    // 硬降
+    private static final int SPIN_POS = 4;                     // 顺时针旋转
+    private static final int SPIN_NEG = 5;                     // 逆时针旋转
+    private static final int SPIN_REV = 6;                     // 180度旋转
+    private static final int HOLD = 7;                         // hold
+    private static final String[] ACTION_NAMES = {"左移", "右移", "加速下降", "硬降", "顺时针旋转", "逆时针旋转", "180度旋转", "hold"};
+
+    /**
+     *  各玩家的按键（按操作序号）及按键名称
+     * */
+    private static final int[][] PLAYER_KEYS = {
+            {KeyEvent.VK_A, KeyEvent.VK_D, KeyEvent.VK_S, KeyEvent.VK_SPACE,
+                    KeyEvent.VK_K, KeyEvent.VK_J, KeyEvent.VK_L, KeyEvent.VK_CONTROL},
+            {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_DOWN, KeyEvent.VK_ENTER,
+                    KeyEvent.VK_UP, KeyEvent.VK_SLASH, KeyEvent.VK_PERIOD, KeyEvent.VK_SHIFT},
+    };
+    private static final String[][] PLAYER_KEY_NAMES = {
+            {"A", "D", "S", "SPACE", "K", "J", "L", "CTRL"},
+            {"←", "→", "↓", "ENTER", "↑", "/", ".", "SHIFT"},
+    };
+    private static final String[] GLOBAL_CONTROL_LINES = {"F1：开始", "ESC：暂停"};
+
+    /**
+     *  按键表大小（按键码小于该值的按键可绑定）
+     * */
+    private static final int KEY_TABLE_SIZE = 256;
+
+    /**
+     *  按键表（下标为按键码，值为 棋盘序号 << 8 | 操作，-1 为未绑定）
+     * */
+    private final int[] keyTable = new int[KEY_TABLE_SIZE];
+
+    /**
+     *  按住的按键（用于忽略按住按键时系统自动重复的按下事件）
+     * */
+    private final boolean[] heldKeys = new boolean[KEY_TABLE_SIZE];
+
+    /**
+     *  棋盘
+     * */
+    private final TetrisBoard[] boards;
+
+    /**
+     *  渲染循环
+     * */
+    private final RenderLoop renderLoop;
+
+    /**
+     *  构造方法
+     *
+     *  @param boards 棋盘（前 PLAYER_KEYS.length 个棋盘依次绑定各组按键）
+     *  @param renderLoop 渲染循环
+     * */
+    public InputDispatcher(List<TetrisBoard> boards, RenderLoop renderLoop) {
+        this.boards = boards.toArray(new TetrisBoard[boards.size()]);
+        this.renderLoop = renderLoop;
+        Arrays.fill(keyTable, -1);
+        for (int board = 0; board < Math.min(this.boards.length, PLAYER_KEYS.length); board++) {
+            for (int action = 0; action < PLAYER_KEYS[board].length; action++) {
+                keyTable[PLAYER_KEYS[board][action]] = board << 8 | action;
+            }
+        }
+    }
+
+    /**
+     *  获取玩家的操作说明
+     *
+     *  @param player 玩家序号（没有对应按键时返回空数组）
+     * */
+    public static String[] getControlLines(int player) {
+        if (player < 0 || player >= PLAYER_KEYS.length) {
+            return new String[0];
+        }
+        String[] lines = Arrays.copyOf(GLOBAL_CONTROL_LINES, GLOBAL_CONTROL_LINES.length + ACTION_NAMES.length);
+        for (int action = 0; action < ACTION_NAMES.length; action++) {
+            lines[GLOBAL_CONTROL_LINES.length + action] = PLAYER_KEY_NAMES[player][action] + "：" + ACTION_NAMES[action];
+        }
+        return lines;
+    }
+
+    @Override
+    public void keyTyped(KeyEvent e) {
+
+    }
+
+    @Override
+    public void keyPressed(KeyEvent e) {
+        int keyCode = e.getKeyCode();
+        if (keyCode == DEBUG_KEY) {
+            // 切换全部棋盘的调试信息层
+            boolean visible = !boards[0].getTetrisMainPanel().isDebugOverlayVisible();
+            for (TetrisBoard board : boards) {
+                board.getTetrisMainPanel().setDebugOverlayVisible(visible);
+            }
+            renderLoop.requestFrame();
+            return;
+        }
+        int binding = lookup(keyCode);
+        if (binding < 0) {
+            return;
+        }
+        // 持续移动及软降按住期间的重复按下事件不产生任何效果，不提交
+        int action = binding & 0xff;
+        boolean repeated = heldKeys[keyCode];
+        heldKeys[keyCode] = true;
+        if (repeated && (action == MOVE_LEFT || action == MOVE_RIGHT || action == SOFT_DOWN)) {
+            return;
+        }
+        TetrisModel tetrisModel = boards[binding >>> 8].getTetrisModel();
+
+        // 操作附带按键时间提交，模型执行后以其产生的状态版本号回调棋盘的输入延迟统计
+        long inputNanos = LatencyTracker.inputNanos(e.getWhen());
+        switch (action) {
+            case MOVE_LEFT:
+                // 停止持续右移，持续左移
+                tetrisModel.stopMoveRight();
+                tetrisModel.input(InputAction.START_MOVE_LEFT, inputNanos);
+                break;
+            case MOVE_RIGHT:
+                // 停止持续左移，持续右移
+                tetrisModel.stopMoveLeft();
+                tetrisModel.input(InputAction.START_MOVE_RIGHT, inputNanos);
+                break;
+            case SPIN_POS:
+                tetrisModel.input(InputAction.SPIN_POS, inputNanos);
+                break;
+            case SPIN_NEG:
+                tetrisModel.input(InputAction.SPIN_NEG, inputNanos);
+                break;
+            case SPIN_REV:
+                tetrisModel.input(InputAction.SPIN_REV, inputNanos);
+                break;
+            case HARD_DOWN:
+                tetrisModel.input(InputAction.HARD_DOWN, inputNanos);
+                break;
+            case SOFT_DOWN:
+                // 开始软降
+                tetrisModel.input(InputAction.START_SOFT_DOWN, inputNanos);
+                break;
+            case HOLD:
+                tetrisModel.input(InputAction.HOLD, inputNanos);
+                break;
+        }
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        int keyCode = e.getKeyCode();
+        if (keyCode == START_KEY) {
+            for (TetrisBoard board : boards) {
+                start(board.getTetrisModel());
+            }
+            return;
+        }
+        if (keyCode == PAUSE_KEY) {
+            // 以第一个棋盘的状态为准切换全部棋盘
+            boolean pause = boards[0].getTetrisModel().getGameStatus() == TetrisModel.GameStatus.PLAYING;
+            for (TetrisBoard board : boards) {
+                TetrisModel tetrisModel = board.getTetrisModel();
+                if (pause && tetrisModel.getGameStatus() == TetrisModel.GameStatus.PLAYING) {
+                    tetrisModel.changeGameStatus(TetrisModel.GameStatus.PAUSE);
+                }
+                else if (!pause && tetrisModel.getGameStatus() == TetrisModel.GameStatus.PAUSE) {
+                    tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+                }
+            }
+            return;
+        }
+        int binding = lookup(keyCode);
+        if (binding < 0) {
+            return;
+        }
+        heldKeys[keyCode] = false;
+        TetrisModel tetrisModel = boards[binding >>> 8].getTetrisModel();
+        switch (binding & 0xff) {
+            case MOVE_LEFT:
+                // 停止持续左移
+                tetrisModel.stopMoveLeft();
+                break;
+            case MOVE_RIGHT:
+                // 停止持续右移
+                tetrisModel.stopMoveRight();
+                break;
+            case SOFT_DOWN:
+                // 停止软降
+                tetrisModel.stopSoftDown();
+                break;
+        }
+    }
+
+    /**
+     *  开始游戏（多个棋盘时，已结束的棋盘重新开始）
+     *  状态切换由游戏线程异步执行，按提交前的状态决定提交的命令，不在两次提交之间重新读取状态
+     * */
+    private void start(TetrisModel tetrisModel) {
+        TetrisModel.GameStatus gameStatus = tetrisModel.getGameStatus();
+        if (boards.length > 1 && gameStatus == TetrisModel.GameStatus.OVER) {
+            tetrisModel.changeGameStatus(TetrisModel.GameStatus.PREPARE);
+            tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+        }
+        else if (gameStatus == TetrisModel.GameStatus.PREPARE) {
+            tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+        }
+    }
+
+    /**
+     *  查找按键绑定
+     *
+     *  @return 棋盘序号 << 8 | 操作，未绑定时返回 -1
+     * */
+    private int lookup(int keyCode) {
+        return keyCode >= 0 && keyCode < KEY_TABLE_SIZE ? keyTable[keyCode] : -1;
+    }
+}
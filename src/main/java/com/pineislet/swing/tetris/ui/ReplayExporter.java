@@ -0,0 +1,107 @@
+package com.pineislet.swing.tetris.ui;
+
+import com.pineislet.swing.tetris.model.impl.TetrisModelImpl;
+import com.pineislet.swing.tetris.model.replay.ReplayPlayer;
+import com.pineislet.swing.tetris.ui.export.FrameSink;
+import com.pineislet.swing.tetris.ui.export.PngSequenceSink;
+import com.pineislet.swing.tetris.ui.export.RawRgbSink;
+import com.pineislet.swing.tetris.ui.util.RasterRenderer;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+/**
+ * 回放导出（无界面）
+ * 按固定帧率模拟回放并逐帧光栅化输出，无需显示器，可在服务器上批量渲染
+ *
+ * 用法：ReplayExporter 回放文件或归档目录 输出 [局编号]
+ * 输出为 "-" 时向标准输出写入原始 RGB 帧，以 ".rgb" 结尾时写入原始 RGB 文件，否则写入该目录下的 PNG 序列
+ * 帧率及尺寸通过 -Dtetris.export.fps（默认 50）、-Dtetris.export.width（默认 200）、-Dtetris.export.height（默认 400）指定
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class ReplayExporter {
+
+    /**
+     *  默认帧率及尺寸
+     * */
+    private static final int DEFAULT_FPS = 1000 / TetrisModelImpl.ATOMIC_TIME;
+    private static final int DEFAULT_WIDTH = 200;
+    private static final int DEFAULT_HEIGHT = 400;
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("usage: ReplayExporter <replay file | archive directory> <output directory | file.rgb | -> [game id]");
+            return;
+        }
+        System.setProperty("java.awt.headless", "true");
+        int fps = Integer.getInteger("tetris.export.fps", DEFAULT_FPS);
+        int width = Integer.getInteger("tetris.export.width", DEFAULT_WIDTH);
+        int height = Integer.getInteger("tetris.export.height", DEFAULT_HEIGHT);
+
+        try {
+            ByteBuffer replay = Bootstrap.readReplay(args[0], args.length > 2 ? args[2] : null);
+            if (null == replay) {
+                return;
+            }
+            FrameSink frameSink;
+            if ("-".equals(args[1])) {
+                frameSink = new RawRgbSink(new BufferedOutputStream(System.out));
+            }
+            else if (args[1].endsWith(".rgb")) {
+                frameSink = new RawRgbSink(new BufferedOutputStream(new FileOutputStream(args[1])));
+            }
+            else {
+                frameSink = new PngSequenceSink(Paths.get(args[1]));
+            }
+
+            long start = System.nanoTime();
+            long frameCounts = export(new ReplayPlayer(replay), new RasterRenderer(width, height), frameSink, fps);
+            long elapsedMillis = Math.max((System.nanoTime() - start) / 1000000L, 1);
+            System.err.printf("%d frames (%dx%d @ %dfps) exported in %dms, %d frames/s%n",
+                    frameCounts, width, height, fps, elapsedMillis, frameCounts * 1000 / elapsedMillis);
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     *  导出回放
+     *
+     *  @param replayPlayer 回放播放器（从头开始推进）
+     *  @param rasterRenderer 光栅渲染器
+     *  @param frameSink 帧输出目标（导出完成后关闭）
+     *  @param fps 帧率
+     *  @return 导出帧数
+     * */
+    public static long export(ReplayPlayer replayPlayer, RasterRenderer rasterRenderer, FrameSink frameSink, int fps) throws IOException {
+        long frameCounts = 0;
+        long ticks = 0;
+        boolean running;
+        try {
+            do {
+                // 第 n 帧对应的推进次数为 n * 1000 / (fps * ATOMIC_TIME)，非整数时向下取整
+                long targetTicks = frameCounts * 1000 / ((long) fps * TetrisModelImpl.ATOMIC_TIME);
+                running = replayPlayer.advance(targetTicks - ticks);
+                ticks = targetTicks;
+
+                // 画面未改变时重复上一帧
+                if (rasterRenderer.render(replayPlayer.getModel()) || frameCounts == 0) {
+                    frameSink.writeFrame(rasterRenderer.getImage());
+                }
+                else {
+                    frameSink.repeatFrame();
+                }
+                frameCounts++;
+            } while (running);
+        } finally {
+            frameSink.close();
+        }
+        return frameCounts;
+    }
+}
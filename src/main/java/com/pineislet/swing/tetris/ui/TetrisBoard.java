@@ -0,0 +1,80 @@
+package com.pineislet.swing.tetris.ui;
+
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.ui.util.LatencyTracker;
+import com.pineislet.swing.tetris.ui.util.RenderLoop;
+import com.pineislet.swing.tetris.ui.util.TilePreviewCache;
+
+/**
+ * 棋盘（一个游戏模型及显示它的各面板）
+ * 同一窗口中的多个棋盘绘制在同一画布上，共享渲染循环、方块图缓存、砖块预览图缓存及输入分发，各自统计输入延迟
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class TetrisBoard {
+
+    /**
+     *  游戏模型
+     * */
+    private final TetrisModel tetrisModel;
+
+    /**
+     *  面板
+     * */
+    private final TetrisMainPanel tetrisMainPanel;
+    private final TetrisFollowPanel tetrisFollowPanel;
+    private final TetrisHoldPanel tetrisHoldPanel;
+    private final TetrisInfoPanel tetrisInfoPanel;
+
+    /**
+     *  输入延迟统计
+     * */
+    private final LatencyTracker latencyTracker = new LatencyTracker();
+
+    /**
+     *  构造方法
+     *
+     *  @param tetrisModel 游戏模型
+     *  @param renderLoop 渲染循环（各棋盘共用）
+     *  @param holdPreviewCache hold区砖块预览图缓存（各棋盘共用）
+     *  @param followPreviewCache 后续砖块预览图缓存（各棋盘共用）
+     *  @param controlLines 信息区显示的操作说明
+     * */
+    public TetrisBoard(TetrisModel tetrisModel, RenderLoop renderLoop, TilePreviewCache holdPreviewCache,
+                       TilePreviewCache followPreviewCache, String[] controlLines) {
+        this.tetrisModel = tetrisModel;
+        this.tetrisMainPanel = new TetrisMainPanel(tetrisModel);
+        this.tetrisFollowPanel = new TetrisFollowPanel(tetrisModel, followPreviewCache);
+        this.tetrisHoldPanel = new TetrisHoldPanel(tetrisModel, holdPreviewCache);
+        this.tetrisInfoPanel = new TetrisInfoPanel(tetrisModel, controlLines);
+        this.tetrisInfoPanel.setRenderLoop(renderLoop);
+        this.tetrisMainPanel.setDebugOverlay(renderLoop, latencyTracker);
+        this.tetrisModel.addOnInputAppliedListener(latencyTracker);
+    }
+
+    public TetrisModel getTetrisModel() {
+        return tetrisModel;
+    }
+
+    public TetrisMainPanel getTetrisMainPanel() {
+        return tetrisMainPanel;
+    }
+
+    public TetrisFollowPanel getTetrisFollowPanel() {
+        return tetrisFollowPanel;
+    }
+
+    public TetrisHoldPanel getTetrisHoldPanel() {
+        return tetrisHoldPanel;
+    }
+
+    public TetrisInfoPanel getTetrisInfoPanel() {
+        return tetrisInfoPanel;
+    }
+
+    public LatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+}
@@ -0,0 +1,297 @@
+package com.pineislet.swing.tetris.ui;
+
+import com.pineislet.swing.tetris.ui.util.CachedLayer;
+import com.pineislet.swing.tetris.ui.util.RenderLoop;
+
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferStrategy;
+import java.util.List;
+
+/**
+ * 游戏画布（主动渲染）
+ * 由渲染循环在渲染线程中通过 BufferStrategy 绘制全部面板，不经过 Swing 的重绘队列
+ * 以设备像素绘制（HiDPI 下不经缩放），面板尺寸随画布放大；背景、边框及各面板的固定内容预先绘制在同一固定图层中，
+ * 尺寸或缩放比例改变时重建，每帧只需贴一次固定图层再绘制各面板的变化内容
+ * 可按网格绘制多个棋盘：全部棋盘共用固定图层，各面板依次绘制在同一画笔上（平移原点并设置裁剪区，不为每个面板创建画笔）
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class TetrisCanvas extends Canvas implements RenderLoop.Renderer {
+
+    /**
+     *  面板尺寸（缩放比例为 1 时）
+     * */
+    public static final int SIDE_WIDTH = 150;           // 左侧（hold区、信息区）宽度
+    public static final int HOLD_HEIGHT = 150;          // hold区高度
+    public static final int FOLLOW_WIDTH = 100;         // 后续砖块区宽度
+    public static final int GAP = 2;                    // hold区与信息区间距
+
+    /**
+     *  缩放比例为 1 时的画布尺寸（画布更大时按比例放大各面板，更小时只缩小游戏区）
+     * */
+    public static final int BASE_WIDTH = 600;
+    public static final int BASE_HEIGHT = 540;
+
+    /**
+     *  面板边框颜色
+     * */
+    private static final Color BORDER_COLOR = Color.WHITE;
+
+    /**
+     *  单位变换（以设备像素绘制）
+     * */
+    private static final AffineTransform IDENTITY = new AffineTransform();
+
+    /**
+     *  面板序号
+     * */
+    private static final int HOLD = 0;
+    private static final int INFO = 1;
+    private static final int MAIN = 2;
+    private static final int FOLLOW = 3;
+
+    /**
+     *  每个棋盘的面板数
+     * */
+    private static final int PANEL_COUNTS = 4;
+
+    /**
+     *  棋盘
+     * */
+    private final TetrisBoard[] boards;
+
+    /**
+     *  面板（第 i 个棋盘的面板位于 i * PANEL_COUNTS 起，按面板序号）
+     * */
+    private final TetrisPanel[] panels;
+
+    /**
+     *  渲染循环
+     * */
+    private final RenderLoop renderLoop;
+
+    /**
+     *  布局（设备像素）：布局对应的图形配置、画布尺寸、边框宽度及各面板内部区域（x, y, width, height）
+     * */
+    private volatile boolean layoutValid;
+    private GraphicsConfiguration layoutConfiguration;
+    private int deviceWidth;
+    private int deviceHeight;
+    private int border;
+    private final int[][] panelBounds;
+
+    /**
+     *  固定图层（背景、边框及各面板的固定内容）
+     * */
+    private final CachedLayer staticLayer = new CachedLayer();
+    private boolean staticLayerValid;
+
+    public TetrisCanvas(RenderLoop renderLoop, List<TetrisBoard> boards) {
+        this.renderLoop = renderLoop;
+        this.boards = boards.toArray(new TetrisBoard[boards.size()]);
+        this.panels = new TetrisPanel[PANEL_COUNTS * this.boards.length];
+        this.panelBounds = new int[panels.length][4];
+        for (int i = 0; i < this.boards.length; i++) {
+            panels[i * PANEL_COUNTS + HOLD] = this.boards[i].getTetrisHoldPanel();
+            panels[i * PANEL_COUNTS + INFO] = this.boards[i].getTetrisInfoPanel();
+            panels[i * PANEL_COUNTS + MAIN] = this.boards[i].getTetrisMainPanel();
+            panels[i * PANEL_COUNTS + FOLLOW] = this.boards[i].getTetrisFollowPanel();
+        }
+        // 键盘事件由窗口处理
+        setFocusable(false);
+        setBackground(this.boards[0].getTetrisMainPanel().getBackground());
+
+        // 尺寸改变时重新布局，并使各面板缓存失效
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                layoutValid = false;
+                for (TetrisPanel panel : panels) {
+                    panel.invalidateCache();
+                }
+                renderLoop.requestFrame();
+            }
+        });
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2);
+        layoutValid = false;
+        renderLoop.addRenderer(this);
+    }
+
+    @Override
+    public void removeNotify() {
+        renderLoop.removeRenderer(this);
+        super.removeNotify();
+    }
+
+    /**
+     *  窗口暴露或尺寸改变时由渲染线程重绘，不在事件分发线程绘制
+     * */
+    @Override
+    public void paint(Graphics g) {
+        renderLoop.requestFrame();
+    }
+
+    @Override
+    public void update(Graphics g) {
+        paint(g);
+    }
+
+    @Override
+    public void render() {
+        BufferStrategy bufferStrategy = getBufferStrategy();
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+        if (null == bufferStrategy || null == configuration || !isDisplayable()) {
+            return;
+        }
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        // 尺寸或所在屏幕（缩放比例）改变时重新布局
+        if (!layoutValid || configuration != layoutConfiguration) {
+            layout(configuration, width, height);
+        }
+        do {
+            do {
+                Graphics g = bufferStrategy.getDrawGraphics();
+                try {
+                    ((Graphics2D) g).setTransform(IDENTITY);
+                    paintPanels(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (bufferStrategy.contentsRestored());
+            bufferStrategy.show();
+        } while (bufferStrategy.contentsLost());
+
+        // 登记该帧反映的各棋盘状态版本号
+        long presentNanos = System.nanoTime();
+        for (TetrisBoard board : boards) {
+            board.getLatencyTracker().onFramePresented(board.getTetrisMainPanel().getDisplayVersion(), presentNanos);
+        }
+    }
+
+    /**
+     *  获取网格列数（接近正方形，列数不少于行数）
+     * */
+    static int getGridColumns(int boardCounts) {
+        return (int) Math.ceil(Math.sqrt(boardCounts));
+    }
+
+    /**
+     *  获取网格行数
+     * */
+    static int getGridRows(int boardCounts) {
+        int columns = getGridColumns(boardCounts);
+        return (boardCounts + columns - 1) / columns;
+    }
+
+    /**
+     *  计算布局：棋盘按网格排列，每格左侧 hold区、信息区，中间游戏区，右侧后续砖块区
+     *
+     *  @param configuration 图形配置（决定设备像素与逻辑像素的比例）
+     *  @param width 画布宽度（逻辑像素）
+     *  @param height 画布高度（逻辑像素）
+     * */
+    private void layout(GraphicsConfiguration configuration, int width, int height) {
+        layoutValid = true;
+        layoutConfiguration = configuration;
+        AffineTransform transform = configuration.getDefaultTransform();
+        deviceWidth = (int) Math.ceil(width * transform.getScaleX());
+        deviceHeight = (int) Math.ceil(height * transform.getScaleY());
+
+        int columns = getGridColumns(boards.length);
+        int cellWidth = deviceWidth / columns;
+        int cellHeight = deviceHeight / getGridRows(boards.length);
+
+        // 单个棋盘时侧边面板不小于原尺寸（只缩小游戏区），多个棋盘时整体缩小
+        double scale = Math.min(cellWidth / (double) BASE_WIDTH, cellHeight / (double) BASE_HEIGHT);
+        if (boards.length == 1) {
+            scale = Math.max(1, scale);
+        }
+        int sideWidth = (int) Math.round(SIDE_WIDTH * scale);
+        int holdHeight = (int) Math.round(HOLD_HEIGHT * scale);
+        int followWidth = (int) Math.round(FOLLOW_WIDTH * scale);
+        int gap = (int) Math.round(GAP * scale);
+        int mainWidth = cellWidth - sideWidth - followWidth;
+        border = (int) Math.max(1, Math.round(scale));
+
+        for (int i = 0; i < boards.length; i++) {
+            int x = cellWidth * (i % columns);
+            int y = cellHeight * (i / columns);
+            int base = i * PANEL_COUNTS;
+            setBounds(base + HOLD, x, y, sideWidth, holdHeight);
+            setBounds(base + INFO, x, y + holdHeight + gap, sideWidth, cellHeight - holdHeight - gap);
+            setBounds(base + MAIN, x + sideWidth, y, mainWidth, cellHeight);
+            setBounds(base + FOLLOW, x + sideWidth + mainWidth, y, followWidth, cellHeight);
+        }
+        staticLayerValid = false;
+    }
+
+    /**
+     *  设置面板内部区域（去除边框）
+     * */
+    private void setBounds(int panel, int x, int y, int width, int height) {
+        panelBounds[panel][0] = x + border;
+        panelBounds[panel][1] = y + border;
+        panelBounds[panel][2] = width - 2 * border;
+        panelBounds[panel][3] = height - 2 * border;
+    }
+
+    /**
+     *  绘制固定图层及全部面板
+     * */
+    private void paintPanels(Graphics g) {
+        if (staticLayer.ensure(g, deviceWidth, deviceHeight) || !staticLayerValid) {
+            paintStaticLayer(staticLayer.getGraphics());
+        }
+        staticLayer.paint(g, 0, 0);
+
+        for (int i = 0; i < panels.length; i++) {
+            int[] bounds = panelBounds[i];
+            if (bounds[2] <= 0 || bounds[3] <= 0) {
+                continue;
+            }
+            g.translate(bounds[0], bounds[1]);
+            g.setClip(0, 0, bounds[2], bounds[3]);
+            panels[i].paintPanel(g, bounds[2], bounds[3]);
+            g.translate(-bounds[0], -bounds[1]);
+        }
+        g.setClip(null);
+    }
+
+    /**
+     *  绘制背景、各面板边框及固定内容
+     * */
+    private void paintStaticLayer(Graphics2D g) {
+        g.setColor(getBackground());
+        g.fillRect(0, 0, deviceWidth, deviceHeight);
+
+        for (int i = 0; i < panels.length; i++) {
+            int[] bounds = panelBounds[i];
+            g.setColor(BORDER_COLOR);
+            g.fillRect(bounds[0] - border, bounds[1] - border, bounds[2] + 2 * border, bounds[3] + 2 * border);
+            if (bounds[2] <= 0 || bounds[3] <= 0) {
+                continue;
+            }
+            Graphics panelGraphics = g.create(bounds[0], bounds[1], bounds[2], bounds[3]);
+            try {
+                panels[i].paintBackground(panelGraphics, bounds[2], bounds[3]);
+            } finally {
+                panelGraphics.dispose();
+            }
+        }
+        staticLayerValid = true;
+    }
+}
@@ -1,56 +1,92 @@
 package com.pineislet.swing.tetris.ui;
 
+import com.pineislet.swing.tetris.model.GameSnapshot;
 import com.pineislet.swing.tetris.model.TetrisModel;
 import com.pineislet.swing.tetris.model.Tile;
-import com.pineislet.swing.tetris.ui.util.PaintUtil;
+import com.pineislet.swing.tetris.ui.util.CachedLayer;
+import com.pineislet.swing.tetris.ui.util.TilePreviewCache;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
 
 /**
  * Create on 2015/1/19
  *
  * @author Yasenia
  */
-public class TetrisFollowPanel extends JPanel {
+public class TetrisFollowPanel extends JPanel implements TetrisPanel {
     private TetrisModel tetrisModel;
 
+    /**
+     *  面板图像、砖块预览图及面板图像对应的砖块队列与游戏结束状态
+     * */
+    private final CachedLayer panelLayer = new CachedLayer();
+    private final TilePreviewCache previewCache;
+    private final Tile[] paintedTiles = new Tile[TetrisModel.FOLLOW_TILE_COUNTS];
+    private boolean paintedOver;
+    private volatile boolean cacheValid;
+
+    /**
+     *  状态快照（每帧从模型复制，重复使用）
+     * */
+    private final GameSnapshot snapshot = new GameSnapshot();
+
     public TetrisFollowPanel(TetrisModel tetrisModel) {
+        this(tetrisModel, new TilePreviewCache());
+    }
+
+    /**
+     *  构造方法（砖块预览图缓存可由多个棋盘的后续砖块面板共用）
+     * */
+    public TetrisFollowPanel(TetrisModel tetrisModel, TilePreviewCache previewCache) {
         this.tetrisModel = tetrisModel;
+        this.previewCache = previewCache;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        paintPanel(g, getWidth(), getHeight());
+    }
 
-        // 记录画笔颜色
-        Color tempColor = g.getColor();
+    /**
+     *  绘制后续砖块队列（队列或游戏结束状态改变时才重绘面板图像）
+     * */
+    @Override
+    public void paintPanel(Graphics g, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        tetrisModel.readSnapshot(snapshot);
+        boolean over = snapshot.getGameStatus() == TetrisModel.GameStatus.OVER;
+        boolean changed = panelLayer.ensure(g, width, height) || !cacheValid || over != paintedOver;
+        for (int i = 0; i < TetrisModel.FOLLOW_TILE_COUNTS; i++) {
+            Tile tile = snapshot.getFollowingTile(i);
+            if (tile != paintedTiles[i]) {
+                paintedTiles[i] = tile;
+                changed = true;
+            }
+        }
 
-        // 绘制背景
-        g.setColor(Color.GRAY);
-        g.fillRect(0, 0, getWidth(), getHeight());
+        if (changed) {
+            cacheValid = true;
+            paintedOver = over;
 
-        // 获得随后砖块队列
-        List<Tile> tileList = tetrisModel.getFollowingTileList();
+            // 绘制背景
+            Graphics2D layerGraphics = panelLayer.getGraphics();
+            layerGraphics.setColor(Color.GRAY);
+            layerGraphics.fillRect(0, 0, width, height);
 
-        // 绘制砖块队列图形
-        for (int i = 0; i < TetrisModel.FOLLOW_TILE_COUNTS; i++) {
-            if (null != tileList) {
-                Tile tile = tileList.get(i);
-                if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.OVER) {
-                    PaintUtil.paintMatrix(g, null == tile ? null : tile.getTileMatrix(), getWidth() / 4, getWidth() * i + getWidth() / 4, getWidth() / 2, getWidth() / 2, Color.BLACK, Color.GRAY);
-                }
-                else {
-                    PaintUtil.paintMatrix(g, null == tile ? null : tile.getTileMatrix(), getWidth() / 4, getWidth() * i + getWidth() / 4, getWidth() / 2, getWidth() / 2);
-                }
-            }
-            else {
-                PaintUtil.paintMatrix(g, null, getWidth() / 4, getWidth() * i + getWidth() / 4, getWidth() / 2, getWidth() / 2);
+            // 绘制砖块队列图形
+            for (int i = 0; i < TetrisModel.FOLLOW_TILE_COUNTS; i++) {
+                previewCache.getPreview(g, paintedTiles[i], width / 2, over).paint(layerGraphics, width / 4, width * i + width / 4);
             }
         }
+        panelLayer.paint(g, 0, 0);
+    }
 
-        // 恢复画笔颜色
-        g.setColor(tempColor);
+    @Override
+    public void invalidateCache() {
+        cacheValid = false;
     }
 }
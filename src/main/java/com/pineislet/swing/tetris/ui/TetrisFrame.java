@@ -1,12 +1,19 @@
 package com.pineislet.swing.tetris.ui;
 
 import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.event.AsyncEventBus;
+import com.pineislet.swing.tetris.model.event.OnStatusChangedListener;
+import com.pineislet.swing.tetris.model.replay.ReplayPlayer;
+import com.pineislet.swing.tetris.ui.util.RenderLoop;
+import com.pineislet.swing.tetris.ui.util.TilePreviewCache;
 
 import javax.swing.*;
-import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.awt.event.KeyListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Create on 2015/1/18
@@ -15,53 +22,123 @@ import java.awt.event.KeyListener;
  */
 public class TetrisFrame extends JFrame {
     /**
-     *  按键控制
+     *  每个棋盘的窗口尺寸
      * */
-    final int START_KEY = KeyEvent.VK_F1;               // 开始
-    final int PAUSE_KEY = KeyEvent.VK_ESCAPE;           // 暂停/恢复暂停
-    final int LEFT_KEY = KeyEvent.VK_A;                 // 左移
-    final int RIGHT_KEY = KeyEvent.VK_D;                // 右移
-    final int SOFT_DOWN_KEY = KeyEvent.VK_S;            // 软降
-    final int HARD_DOWN_KEY = KeyEvent.VK_SPACE;        // 硬降
-    final int SPIN_POS_KEY = KeyEvent.VK_K;             // 顺时针旋转
-    final int SPIN_NEG_KEY = KeyEvent.VK_J;             // 逆时针旋转
-    final int SPIN_REV_KEY = KeyEvent.VK_L;             // 180度旋转
-    final int HOLD_KEY = KeyEvent.VK_CONTROL;           // hold
+    static final int BOARD_FRAME_WIDTH = 600;
+    static final int BOARD_FRAME_HEIGHT = 600;
 
     /**
-     *  游戏模型
+     *  游戏中用时显示的刷新间隔（纳秒，其余内容仅在状态版本号改变时重绘）
+     * */
+    static final long TIME_REFRESH_NANOS = 100_000_000L;
+
+    /**
+     *  回放按键控制
+     * */
+    final int REPLAY_PLAY_KEY = KeyEvent.VK_SPACE;      // 播放/暂停
+    final int REPLAY_NORMAL_KEY = KeyEvent.VK_1;        // 1倍速
+    final int REPLAY_FAST_KEY = KeyEvent.VK_4;          // 4倍速
+    final int REPLAY_MAX_KEY = KeyEvent.VK_M;           // 最快速度
+    final int REPLAY_PREV_KEY = KeyEvent.VK_LEFT;       // 上一砖块
+    final int REPLAY_NEXT_KEY = KeyEvent.VK_RIGHT;      // 下一砖块
+
+    /**
+     *  游戏模型（多个棋盘时为第一个棋盘的模型，菜单作用于该模型）
      * */
     private TetrisModel tetrisModel;
 
+    /**
+     *  全部游戏模型
+     * */
+    private List<TetrisModel> tetrisModels;
+
+    /**
+     *  回放播放器（非回放模式为空）
+     * */
+    private ReplayPlayer replayPlayer;
+
+    /**
+     *  异步事件总线（为空时界面监听器在游戏线程中同步执行）
+     * */
+    private AsyncEventBus eventBus;
+
     /**
      *  游戏面板
      * */
     private TetrisMenuBar tetrisMenuBar;                // 菜单条
-    private TetrisMainPanel tetrisMainPanel;            // 游戏主面板
-    private TetrisFollowPanel tetrisFollowPanel;        // 后续砖块显示面板
-    private TetrisHoldPanel tetrisHoldPanel;            // hold砖块显示面板
-    private TetrisInfoPanel tetrisInfoPanel;            // 信息提示面板
+    private List<TetrisBoard> boards;                   // 棋盘（各自的游戏主面板、后续砖块、hold砖块及信息提示面板）
+    private TetrisCanvas tetrisCanvas;                  // 主动渲染画布（绘制全部棋盘）
+
+    /**
+     *  渲染循环
+     * */
+    private RenderLoop renderLoop;
+
+    /**
+     *  输入分发
+     * */
+    private InputDispatcher inputDispatcher;
 
     /**
      *  构造方法
      * */
     public TetrisFrame(TetrisModel tetrisModel) {
-        this.tetrisModel = tetrisModel;
+        this(Collections.singletonList(tetrisModel));
+    }
+
+    /**
+     *  构造方法（多个棋盘并排显示，前两个棋盘可分别由两组按键控制）
+     * */
+    public TetrisFrame(List<TetrisModel> tetrisModels) {
+        this(tetrisModels, null);
+    }
+
+    /**
+     *  构造方法
+     *
+     *  @param eventBus 已挂接到全部模型的异步事件总线（为空时同步监听模型）
+     * */
+    public TetrisFrame(List<TetrisModel> tetrisModels, AsyncEventBus eventBus) {
+        this.tetrisModel = tetrisModels.get(0);
+        this.tetrisModels = tetrisModels;
+        this.eventBus = eventBus;
 
         initComponents();
         setupLayout();
         addListener();
     }
 
+    /**
+     *  构造方法（回放模式）
+     * */
+    public TetrisFrame(ReplayPlayer replayPlayer) {
+        this.tetrisModel = replayPlayer.getModel();
+        this.tetrisModels = Collections.singletonList(tetrisModel);
+        this.replayPlayer = replayPlayer;
+
+        initComponents();
+        setupLayout();
+        addReplayListener();
+    }
+
     /**
      *  初始化组件
      * */
     private void initComponents() {
-        this.tetrisMenuBar = new TetrisMenuBar(tetrisModel);
-        this.tetrisMainPanel = new TetrisMainPanel(tetrisModel);
-        this.tetrisFollowPanel = new TetrisFollowPanel(tetrisModel);
-        this.tetrisHoldPanel = new TetrisHoldPanel(tetrisModel);
-        this.tetrisInfoPanel = new TetrisInfoPanel(tetrisModel);
+        this.tetrisMenuBar = null == replayPlayer ? new TetrisMenuBar(tetrisModel) : new TetrisMenuBar(replayPlayer);
+        this.renderLoop = new RenderLoop();
+
+        // 全部棋盘共用渲染循环及砖块预览图缓存（方块图缓存为全局共用）
+        TilePreviewCache holdPreviewCache = new TilePreviewCache();
+        TilePreviewCache followPreviewCache = new TilePreviewCache();
+        this.boards = new ArrayList<>(tetrisModels.size());
+        for (int i = 0; i < tetrisModels.size(); i++) {
+            String[] controlLines = null == replayPlayer ? InputDispatcher.getControlLines(i) : new String[0];
+            boards.add(new TetrisBoard(tetrisModels.get(i), renderLoop, holdPreviewCache, followPreviewCache, controlLines));
+        }
+        this.tetrisCanvas = new TetrisCanvas(renderLoop, boards);
+        this.inputDispatcher = new InputDispatcher(boards, renderLoop);
+        this.renderLoop.start();
     }
 
     /**
@@ -69,30 +146,18 @@ public class TetrisFrame extends JFrame {
      * */
     private void setupLayout() {
         setTitle("Tetris");
-        setResizable(false);
-        setSize(600, 600);
-
-        tetrisMainPanel.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
-
-        tetrisFollowPanel.setPreferredSize(new Dimension(100, 600));
-        tetrisFollowPanel.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
-
-        tetrisInfoPanel.setPreferredSize(new Dimension(150, 450));
-        tetrisInfoPanel.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
-
-        tetrisHoldPanel.setPreferredSize(new Dimension(150, 150));
-        tetrisHoldPanel.setBorder(BorderFactory.createLineBorder(Color.WHITE, 1));
-        JPanel westPanel = new JPanel();
-
-        westPanel.setLayout(new BorderLayout(2, 2));
+        setResizable(true);
+        // 按棋盘网格确定窗口尺寸（不超过屏幕可用区域）
+        Rectangle screen = GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+        setSize(Math.min(BOARD_FRAME_WIDTH * TetrisCanvas.getGridColumns(boards.size()), screen.width),
+                Math.min(BOARD_FRAME_HEIGHT * TetrisCanvas.getGridRows(boards.size()), screen.height));
+        setMinimumSize(new Dimension(400, 400));
 
-        westPanel.add(tetrisHoldPanel, BorderLayout.NORTH);
-        westPanel.add(tetrisInfoPanel, BorderLayout.CENTER);
+        // 画布为重量级组件，菜单弹出层需使用重量级窗口以免被遮挡
+        JPopupMenu.setDefaultLightWeightPopupEnabled(false);
 
         setLayout(new BorderLayout());
-        add(tetrisMainPanel, BorderLayout.CENTER);
-        add(tetrisFollowPanel, BorderLayout.EAST);
-        add(westPanel, BorderLayout.WEST);
+        add(tetrisCanvas, BorderLayout.CENTER);
         setJMenuBar(tetrisMenuBar);
 
     }
@@ -101,150 +166,101 @@ public class TetrisFrame extends JFrame {
      *  添加监听器
      * */
     private void addListener() {
-        // 监听键盘事件
-        this.addKeyListener(new KeyListener() {
+        // 监听键盘事件（全部棋盘共用一个输入分发）
+        this.addKeyListener(inputDispatcher);
 
-            // 键盘点击事件
-            @Override
-            public void keyTyped(KeyEvent e) {
+        // 监听游戏状态改变事件
+        OnStatusChangedListener statusChangedListener = e -> {
 
+            // 有棋盘在游戏中时定时刷新用时，其它状态不刷新
+            renderLoop.setRefreshInterval(isAnyPlaying() ? TIME_REFRESH_NANOS : 0);
+
+            // 单个棋盘时弹出暂停及结束对话框，多个棋盘时由按键统一暂停、重新开始
+            if (tetrisModels.size() > 1) {
+                return;
             }
+            switch (e.getCurrentStatus()) {
+                case PAUSE:
+                    showPauseDialog();
+                    break;
+                case OVER:
+                    showOverDialog();
+                    break;
+            }
+        };
+        // 使用事件总线时在总线的订阅线程中处理，不占用游戏线程
+        if (null != eventBus) {
+            eventBus.addOnStatusChangedListener("frame", statusChangedListener);
+        }
 
-            // 键盘按下事件
-            @Override
-            public void keyPressed(KeyEvent e) {
-                switch (e.getKeyCode()) {
-                    // 按下左移键
-                    case LEFT_KEY:
-                        // 停止持续右移
-                        tetrisModel.stopMoveRight();
-                        // 持续左移
-                        tetrisModel.startMoveLeft();
-                        break;
-                    // 按下右移键
-                    case RIGHT_KEY:
-                        // 停止持续左移
-                        tetrisModel.stopMoveLeft();
-                        // 持续右移
-                        tetrisModel.startMoveRight();
-                        break;
-                    // 按下顺时针旋转键
-                    case SPIN_POS_KEY:
-                        // 顺时针旋转
-                        tetrisModel.spinPos();
-                        break;
-                    // 按下逆时针旋转键
-                    case SPIN_NEG_KEY:
-                        // 逆时针旋转
-                        tetrisModel.spinNeg();
-                        break;
-                    // 按下180度旋转键
-                    case SPIN_REV_KEY:
-                        // 180度旋转
-                        tetrisModel.spinRev();
-                        break;
-                    // 按下硬降键
-                    case HARD_DOWN_KEY:
-                        // 硬降
-                        tetrisModel.hardDown();
-                        break;
-                    // 按下软降键
-                    case SOFT_DOWN_KEY:
-                        // 开始软降
-                        tetrisModel.startSoftDown();
-                        break;
-                    // 按下hold键
-                    case HOLD_KEY:
-                        // 开始软降
-                        tetrisModel.hold();
-                        break;
-                }
+        for (TetrisModel model : tetrisModels) {
+            if (null == eventBus) {
+                model.addOnStatusChangedListener(statusChangedListener);
             }
 
-            // 键盘松开事件
+            // 状态版本号改变时请求重绘（渲染循环合并全部棋盘的请求，每个刷新周期至多一帧）
+            model.addOnVersionChangedListener(version -> renderLoop.requestFrame());
+        }
+    }
+
+    private boolean isAnyPlaying() {
+        for (TetrisModel model : tetrisModels) {
+            if (model.getGameStatus() == TetrisModel.GameStatus.PLAYING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *  添加监听器（回放模式）
+     * */
+    private void addReplayListener() {
+        setTitle("Tetris - 回放");
+
+        // 监听键盘事件
+        this.addKeyListener(new KeyAdapter() {
             @Override
-            public void keyReleased(KeyEvent e) {
+            public void keyPressed(KeyEvent e) {
                 switch (e.getKeyCode()) {
-                    // 松开开始键
-                    case START_KEY:
-                        // 游戏开始，游戏面板启动刷新线程
-                        if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.PREPARE) {
-                            tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
-                        }
-                        break;
-                    // 松开暂停键
-                    case PAUSE_KEY:
-                        // 切换游戏状态
-                        if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.PLAYING) {
-                            tetrisModel.changeGameStatus(TetrisModel.GameStatus.PAUSE);
+                    // 播放/暂停
+                    case REPLAY_PLAY_KEY:
+                        if (replayPlayer.isPlaying()) {
+                            replayPlayer.pause();
                         }
-                        else if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.PAUSE) {
-                            tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING);
+                        else {
+                            replayPlayer.play();
                         }
                         break;
-                    // 松开左移键
-                    case LEFT_KEY:
-                        // 停止持续左移
-                        tetrisModel.stopMoveLeft();
+                    // 切换速度
+                    case REPLAY_NORMAL_KEY:
+                        replayPlayer.setSpeed(ReplayPlayer.Speed.NORMAL);
                         break;
-                    // 松开右移键
-                    case RIGHT_KEY:
-                        // 停止持续右移
-                        tetrisModel.stopMoveRight();
+                    case REPLAY_FAST_KEY:
+                        replayPlayer.setSpeed(ReplayPlayer.Speed.FAST);
                         break;
-                    // 松开软降键
-                    case SOFT_DOWN_KEY:
-                        // 停止软降
-                        tetrisModel.stopSoftDown();
+                    case REPLAY_MAX_KEY:
+                        replayPlayer.setSpeed(ReplayPlayer.Speed.MAX);
+                        break;
+                    // 跳转至上一/下一砖块
+                    case REPLAY_PREV_KEY:
+                        replayPlayer.seekToPiece(replayPlayer.getPiece() - 1);
+                        repaintAllComponents();
+                        break;
+                    case REPLAY_NEXT_KEY:
+                        replayPlayer.seekToPiece(replayPlayer.getPiece() + 1);
+                        repaintAllComponents();
                         break;
                 }
             }
         });
 
-        // 监听游戏状态改变事件
-        tetrisModel.addOnStatusChangedListener(e -> {
-
-            switch (e.getCurrentStatus()) {
-                case PREPARE:
-                    repaintAllComponents();
-                    tetrisMainPanel.stopRefresh();
-                    tetrisInfoPanel.stopRefresh();
-                    break;
-                case PLAYING:
-                    repaintAllComponents();
-                    tetrisMainPanel.startRefresh();
-                    tetrisInfoPanel.startRefresh();
-                    break;
-                case PAUSE:
-                    repaintAllComponents();
-                    tetrisMainPanel.stopRefresh();
-                    tetrisInfoPanel.stopRefresh();
-                    showPauseDialog();
-                    break;
-                case OVER:
-                    repaintAllComponents();
-                    tetrisMainPanel.stopRefresh();
-                    tetrisInfoPanel.stopRefresh();
-                    showOverDialog();
-                    break;
-            }
-
-            tetrisFollowPanel.repaint();
-            tetrisHoldPanel.repaint();
-        });
-
-        // 监听砖块改变事件
-        tetrisModel.addOnTileModifiedListener(e -> {
-            tetrisFollowPanel.repaint();
-            tetrisHoldPanel.repaint();
-        });
+        // 状态版本号改变时请求重绘
+        tetrisModel.addOnVersionChangedListener(version -> renderLoop.requestFrame());
     }
 
     private void repaintAllComponents() {
-        tetrisMainPanel.repaint();
-        tetrisInfoPanel.repaint();
-        tetrisFollowPanel.repaint();
-        tetrisHoldPanel.repaint();
+        renderLoop.requestFrame();
     }
 
     private void showPauseDialog() {
@@ -1,8 +1,10 @@
 package com.pineislet.swing.tetris.ui;
 
+import com.pineislet.swing.tetris.model.GameSnapshot;
 import com.pineislet.swing.tetris.model.TetrisModel;
 import com.pineislet.swing.tetris.model.Tile;
-import com.pineislet.swing.tetris.ui.util.PaintUtil;
+import com.pineislet.swing.tetris.ui.util.CachedLayer;
+import com.pineislet.swing.tetris.ui.util.TilePreviewCache;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,35 +14,70 @@ import java.awt.*;
  *
  * @author Yasenia
  */
-public class TetrisHoldPanel extends JPanel {
+public class TetrisHoldPanel extends JPanel implements TetrisPanel {
     private TetrisModel tetrisModel;
 
+    /**
+     *  面板图像、砖块预览图及面板图像对应的hold区砖块与游戏结束状态
+     * */
+    private final CachedLayer panelLayer = new CachedLayer();
+    private final TilePreviewCache previewCache;
+    private Tile paintedTile;
+    private boolean paintedOver;
+    private volatile boolean cacheValid;
+
+    /**
+     *  状态快照（每帧从模型复制，重复使用）
+     * */
+    private final GameSnapshot snapshot = new GameSnapshot();
+
     public TetrisHoldPanel(TetrisModel tetrisModel) {
+        this(tetrisModel, new TilePreviewCache());
+    }
+
+    /**
+     *  构造方法（砖块预览图缓存可由多个棋盘的hold区面板共用）
+     * */
+    public TetrisHoldPanel(TetrisModel tetrisModel, TilePreviewCache previewCache) {
         this.tetrisModel = tetrisModel;
+        this.previewCache = previewCache;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        paintPanel(g, getWidth(), getHeight());
+    }
 
-        // 记录画笔颜色
-        Color tempColor = g.getColor();
+    /**
+     *  绘制hold区砖块（砖块或游戏结束状态改变时才重绘面板图像）
+     * */
+    @Override
+    public void paintPanel(Graphics g, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        tetrisModel.readSnapshot(snapshot);
+        Tile holdTile = snapshot.getHoldTile();
+        boolean over = snapshot.getGameStatus() == TetrisModel.GameStatus.OVER;
+        if (panelLayer.ensure(g, width, height) || !cacheValid || holdTile != paintedTile || over != paintedOver) {
+            cacheValid = true;
+            paintedTile = holdTile;
+            paintedOver = over;
 
-        // 绘制背景
-        g.setColor(Color.GRAY);
-        g.fillRect(0, 0, getWidth(), getHeight());
+            // 绘制背景
+            Graphics2D layerGraphics = panelLayer.getGraphics();
+            layerGraphics.setColor(Color.GRAY);
+            layerGraphics.fillRect(0, 0, width, height);
 
-        // 获得hold区砖块
-        Tile holdTile = tetrisModel.getHoldTile();
-        // 绘制hold区砖块图形
-        if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.OVER) {
-            PaintUtil.paintMatrix(g, null == holdTile ? null : holdTile.getTileMatrix(), getWidth() / 6, getWidth() / 6, getWidth() * 2 / 3, getWidth() * 2 / 3, Color.BLACK, Color.GRAY);
-        }
-        else {
-            PaintUtil.paintMatrix(g, null == holdTile ? null : holdTile.getTileMatrix(), getWidth() / 6, getWidth() / 6, getWidth() * 2 / 3, getWidth() * 2 / 3);
+            // 绘制hold区砖块图形
+            previewCache.getPreview(g, holdTile, width * 2 / 3, over).paint(layerGraphics, width / 6, width / 6);
         }
+        panelLayer.paint(g, 0, 0);
+    }
 
-        // 恢复画笔颜色
-        g.setColor(tempColor);
+    @Override
+    public void invalidateCache() {
+        cacheValid = false;
     }
 }
@@ -1,97 +1,246 @@
 package com.pineislet.swing.tetris.ui;
 
 import com.pineislet.swing.tetris.model.TetrisModel;
-import com.pineislet.swing.tetris.ui.util.PanelRefreshThread;
+import com.pineislet.swing.tetris.ui.util.CachedLayer;
+import com.pineislet.swing.tetris.ui.util.RenderLoop;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.geom.Rectangle2D;
-import java.time.Duration;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.Arrays;
 
 /**
  * Create on 2015/1/19
  *
  * @author Yasenia
  */
-public class TetrisInfoPanel extends JPanel {
-    public static final long SLEEP_SPAN = 30;
+public class TetrisInfoPanel extends JPanel implements TetrisPanel {
+
+    /** 字体（面板宽度为 TetrisCanvas.SIDE_WIDTH 时的大小，其它宽度时按比例缩放） */
+    private static final Font INFO_FONT = new Font("宋体", Font.PLAIN, 16);
+
+    /** 固定文字（null 处为得分、用时等数值），其后为操作说明 */
+    private static final String[] STATUS_LINES = new String[] {"得分：", null, "用时：", null, ""};
+    private static final String CONTROL_TITLE = "操作方法——";
+
+    /** 数值所在行 */
+    private static final int SCORE_LINE = 1;
+    private static final int TIME_LINE = 3;
+
+    /** 帧统计标签 */
+    private static final String FRAME_TIME_LABEL = "帧时间：";
+    private static final String DROPPED_FRAME_LABEL = "丢帧：";
 
     /** 模型 */
     private TetrisModel tetrisModel;
 
-    /** 刷新线程 */
-    private PanelRefreshThread refreshThread;
-
-    /** 刷新状态 */
-    private boolean onRefreshing;
+    /** 固定文字（数值行及操作说明）与帧统计所在行 */
+    private final String[] staticLines;
+    private final int frameTimeLine;
+    private final int droppedFrameLine;
+
+    /** 渲染循环（用于显示帧时间，可为空） */
+    private RenderLoop renderLoop;
+
+    /** 固定图层（背景及固定文字）与面板图像 */
+    private final CachedLayer staticLayer = new CachedLayer();
+    private final CachedLayer panelLayer = new CachedLayer();
+    private volatile boolean staticLayerValid;
+
+    /** 按面板宽度缩放后的字体 */
+    private Font font = INFO_FONT;
+
+    /** 文字位置 */
+    private int textX;
+    private int textY;
+    private int lineHeight;
+    private int frameTimeX;
+    private int droppedFrameX;
+
+    /** 数值字符缓冲区 */
+    private final char[] scoreChars = new char[11];
+    private final char[] timeChars = new char[8];
+    private final char[] frameTimeChars = new char[16];
+    private final char[] droppedFrameChars = new char[20];
+
+    /** 面板图像对应的数值（用时精确到百分之一秒，帧时间精确到 0.1ms） */
+    private int paintedScore = -1;
+    private long paintedCentis = -1;
+    private long paintedFrameTenths = -1;
+    private long paintedDroppedFrames = -1;
 
     public TetrisInfoPanel(TetrisModel tetrisModel) {
+        this(tetrisModel, InputDispatcher.getControlLines(0));
+    }
+
+    /**
+     *  构造方法
+     *
+     *  @param controlLines 操作说明（为空数组时不显示操作说明）
+     * */
+    public TetrisInfoPanel(TetrisModel tetrisModel, String[] controlLines) {
         this.tetrisModel = tetrisModel;
+        if (controlLines.length == 0) {
+            this.staticLines = STATUS_LINES;
+        }
+        else {
+            this.staticLines = Arrays.copyOf(STATUS_LINES, STATUS_LINES.length + 1 + controlLines.length);
+            this.staticLines[STATUS_LINES.length] = CONTROL_TITLE;
+            System.arraycopy(controlLines, 0, staticLines, STATUS_LINES.length + 1, controlLines.length);
+        }
+        this.frameTimeLine = staticLines.length + 1;
+        this.droppedFrameLine = frameTimeLine + 1;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        paintPanel(g, getWidth(), getHeight());
+    }
 
-        // 记录画笔颜色
-        Color tempColor = g.getColor();
-
-        // 绘制背景
-        g.setColor(Color.GRAY);
-        g.fillRect(0, 0, getWidth(), getHeight());
+    /**
+     *  绘制得分、用时及操作说明（数值改变时才重绘面板图像）
+     * */
+    @Override
+    public void paintPanel(Graphics g, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        boolean staticChanged = staticLayer.ensure(g, width, height) || !staticLayerValid;
+        if (staticChanged) {
+            paintStaticLayer(width, height);
+        }
 
         int score = tetrisModel.getScore();
-        Duration time = tetrisModel.getTime();
-        int m = (int) time.getSeconds() / 60;
-        int s = (int) time.getSeconds() % 60;
-        int ss = time.getNano() / 10000000;
-
-        String timeStr = (m < 10 ? "0" : "") + m + ":" + (s < 10 ? "0" : "") + s +  ":" + (ss < 10 ? "0" : "") + ss;
-
-        g.setColor(Color.BLACK);
-        g.setFont(new Font("宋体",Font.PLAIN, 16));
-        FontMetrics fontMetrics = g.getFontMetrics();
-        int strX = getWidth() / 10;
-        int strY = getHeight() / 20;
-        int lineHeight = (int) fontMetrics.getStringBounds("行", g).getHeight();
-
-        String[] stringArray = new String[] {
-                "得分：", "" + score, "用时：", "" + timeStr, "",
-                "操作方法——",
-                "F1：开始", "ESC：暂停",
-                "A：左移", "D：右移",
-                "S：加速下降", "SPACE：硬降",
-                "J：顺时针旋转", "K：逆时针旋转", "L：180度旋转",
-                "CTRL：hold",
-        };
-
-        for (String aStringArray : stringArray) {
-            strY += lineHeight;
-            g.drawString(aStringArray, strX, strY);
+        long centis = tetrisModel.getTimeNanos() / 10_000_000L;
+        long frameTenths = null == renderLoop ? 0 : (renderLoop.getAverageFrameNanos() + 50_000L) / 100_000L;
+        long droppedFrames = null == renderLoop ? 0 : renderLoop.getDroppedFrameCounts();
+        if (panelLayer.ensure(g, width, height) || staticChanged || score != paintedScore || centis != paintedCentis
+                || frameTenths != paintedFrameTenths || droppedFrames != paintedDroppedFrames) {
+            paintedScore = score;
+            paintedCentis = centis;
+            paintedFrameTenths = frameTenths;
+            paintedDroppedFrames = droppedFrames;
+
+            Graphics2D layerGraphics = panelLayer.getGraphics();
+            staticLayer.paint(layerGraphics, 0, 0);
+            layerGraphics.setColor(Color.BLACK);
+            layerGraphics.setFont(font);
+
+            // 得分、用时（分:秒:百分秒）
+            int length = formatNumber(scoreChars, 0, score);
+            layerGraphics.drawChars(scoreChars, 0, length, textX, lineY(SCORE_LINE));
+            formatTime(centis);
+            layerGraphics.drawChars(timeChars, 0, timeChars.length, textX, lineY(TIME_LINE));
+
+            // 帧时间与丢帧数
+            if (null != renderLoop) {
+                length = formatNumber(frameTimeChars, 0, frameTenths / 10);
+                frameTimeChars[length++] = '.';
+                frameTimeChars[length++] = (char) ('0' + frameTenths % 10);
+                frameTimeChars[length++] = 'm';
+                frameTimeChars[length++] = 's';
+                layerGraphics.drawChars(frameTimeChars, 0, length, frameTimeX, lineY(frameTimeLine));
+                length = formatNumber(droppedFrameChars, 0, droppedFrames);
+                layerGraphics.drawChars(droppedFrameChars, 0, length, droppedFrameX, lineY(droppedFrameLine));
+            }
         }
+        panelLayer.paint(g, 0, 0);
+    }
 
-        // 恢复画笔颜色
-        g.setColor(tempColor);
+    public void setRenderLoop(RenderLoop renderLoop) {
+        this.renderLoop = renderLoop;
+        staticLayerValid = false;
     }
 
-    public void startRefresh() {
-        // 停止原有刷新线程
-        stopRefresh();
-        // 创建并启动刷新线程
-        refreshThread = new PanelRefreshThread(this, SLEEP_SPAN);
-        refreshThread.start();
-        // 更改刷新状态
-        onRefreshing = true;
+    @Override
+    public void invalidateCache() {
+        staticLayerValid = false;
     }
 
-    public void stopRefresh() {
-        if (null != refreshThread) {
-            refreshThread.callStop();
+    /**
+     *  绘制固定图层（固定文字按字体排版为 GlyphVector 后绘制，尺寸改变时才重新排版）
+     * */
+    private void paintStaticLayer(int width, int height) {
+        Graphics2D layerGraphics = staticLayer.getGraphics();
+
+        // 绘制背景
+        layerGraphics.setColor(Color.GRAY);
+        layerGraphics.fillRect(0, 0, width, height);
+
+        layerGraphics.setColor(Color.BLACK);
+        FontRenderContext fontRenderContext = layerGraphics.getFontRenderContext();
+        textX = width / 10;
+        textY = height / 20;
+        float scale = width / (float) TetrisCanvas.SIDE_WIDTH;
+        if (font.getSize2D() != INFO_FONT.getSize2D() * scale) {
+            font = INFO_FONT.deriveFont(INFO_FONT.getSize2D() * scale);
+        }
+        lineHeight = (int) font.getStringBounds("行", fontRenderContext).getHeight();
+
+        for (int i = 0; i < staticLines.length; i++) {
+            if (null != staticLines[i] && !staticLines[i].isEmpty()) {
+                drawStaticText(layerGraphics, staticLines[i], textX, lineY(i));
+            }
         }
-        onRefreshing = false;
+        if (null != renderLoop) {
+            frameTimeX = textX + drawStaticText(layerGraphics, FRAME_TIME_LABEL, textX, lineY(frameTimeLine));
+            droppedFrameX = textX + drawStaticText(layerGraphics, DROPPED_FRAME_LABEL, textX, lineY(droppedFrameLine));
+        }
+        staticLayerValid = true;
     }
 
-    public boolean isOnRefreshing() {
-        return onRefreshing;
+    /**
+     *  排版并绘制固定文字
+     *
+     *  @return 文字宽度
+     * */
+    private int drawStaticText(Graphics2D g, String text, int x, int y) {
+        GlyphVector glyphVector = font.createGlyphVector(g.getFontRenderContext(), text);
+        g.drawGlyphVector(glyphVector, x, y);
+        return (int) Math.ceil(glyphVector.getLogicalBounds().getWidth());
+    }
+
+    /**
+     *  获取第 line 行文字的基线位置
+     * */
+    private int lineY(int line) {
+        return textY + lineHeight * (line + 1);
+    }
+
+    /**
+     *  将用时格式化为 mm:ss:cc 写入用时字符缓冲区
+     * */
+    private void formatTime(long centis) {
+        long seconds = centis / 100;
+        long m = Math.min(seconds / 60, 99);
+        long s = seconds % 60;
+        long ss = centis % 100;
+        timeChars[0] = (char) ('0' + m / 10);
+        timeChars[1] = (char) ('0' + m % 10);
+        timeChars[2] = ':';
+        timeChars[3] = (char) ('0' + s / 10);
+        timeChars[4] = (char) ('0' + s % 10);
+        timeChars[5] = ':';
+        timeChars[6] = (char) ('0' + ss / 10);
+        timeChars[7] = (char) ('0' + ss % 10);
+    }
+
+    /**
+     *  将非负整数写入字符缓冲区
+     *
+     *  @return 写入后的位置
+     * */
+    private static int formatNumber(char[] chars, int offset, long value) {
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
     }
 }
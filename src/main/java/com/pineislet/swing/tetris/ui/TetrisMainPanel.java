@@ -1,8 +1,12 @@
 package com.pineislet.swing.tetris.ui;
 
+import com.pineislet.swing.tetris.model.GameSnapshot;
 import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.ui.util.BoardRenderer;
+import com.pineislet.swing.tetris.ui.util.Histogram;
+import com.pineislet.swing.tetris.ui.util.LatencyTracker;
 import com.pineislet.swing.tetris.ui.util.PaintUtil;
-import com.pineislet.swing.tetris.ui.util.PanelRefreshThread;
+import com.pineislet.swing.tetris.ui.util.RenderLoop;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,24 +16,40 @@ import java.awt.*;
  *
  * @author Yasenia
  */
-public class TetrisMainPanel extends JPanel {
-    public static final long SLEEP_SPAN = 30;
-
+public class TetrisMainPanel extends JPanel implements TetrisPanel {
     /**
      *  游戏模型
      * */
     private TetrisModel tetrisModel;
 
     /**
-     *  刷新线程
+     *  显示缓冲区及其对应的状态版本号
+     * */
+    private final int[] displayBuffer = new int[TetrisModel.GAME_WIDTH * TetrisModel.GAME_HEIGHT];
+    private long displayVersion = -1;
+
+    /**
+     *  状态快照（每帧从模型复制，重复使用）
      * */
-    private PanelRefreshThread refreshThread;
+    private final GameSnapshot snapshot = new GameSnapshot();
 
     /**
-     *  刷新状态
+     *  棋盘增量渲染器
      * */
-    private boolean onRefreshing;
+    private final BoardRenderer boardRenderer = new BoardRenderer(TetrisModel.GAME_HEIGHT, TetrisModel.GAME_WIDTH);
 
+    /**
+     *  调试信息层字体及颜色
+     * */
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 160);
+
+    /**
+     *  调试信息层（帧时间及输入延迟），数据来源可为空
+     * */
+    private RenderLoop renderLoop;
+    private LatencyTracker latencyTracker;
+    private volatile boolean debugOverlayVisible;
 
     /**
      *  构造方法
@@ -41,59 +61,123 @@ public class TetrisMainPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        paintBackground(g, getWidth(), getHeight());
+        paintPanel(g, getWidth(), getHeight());
+    }
 
+    /**
+     *  绘制棋盘及当前砖块
+     * */
+    @Override
+    public void paintPanel(Graphics g, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
         // 记录画笔颜色
         Color tempColor = g.getColor();
 
-        g.setColor(Color.GRAY);
-        g.fillRect(0, 0, getWidth(), getHeight());
-
         // 确定绘制区域
-        int width = Math.min(getWidth(), getHeight() / 2);
-        int height = 2 * width;
-        int baseX = (getWidth() - width) / 2;
-        int baseY = (getHeight() - height) / 2;
+        int boardWidth = PaintUtil.getBoardWidth(width, height);
+        int boardHeight = 2 * boardWidth;
+        int baseX = (width - boardWidth) / 2;
+        int baseY = (height - boardHeight) / 2;
 
-        // 绘制背景
-        g.setColor(Color.BLACK);
-        g.fillRect(baseX, baseY, width, height);
 
         // 绘制图形
         if (null != tetrisModel) {
-            if (tetrisModel.getGameStatus() == TetrisModel.GameStatus.OVER) {
-                PaintUtil.paintMatrix(g, tetrisModel.getGameDisplayMatrix(), baseX, baseY, width, height, Color.BLACK, Color.GRAY);
+            // 显示矩阵与游戏状态取自同一快照（状态未改变时不复制）
+            tetrisModel.readSnapshot(snapshot);
+            if (snapshot.getVersion() != displayVersion) {
+                snapshot.copyCells(displayBuffer);
+                displayVersion = snapshot.getVersion();
+            }
+            // 仅重绘变化的格子
+            if (snapshot.getGameStatus() == TetrisModel.GameStatus.OVER) {
+                boardRenderer.paint(g, displayBuffer, baseX, baseY, boardWidth, boardHeight, Color.BLACK, Color.GRAY);
             }
             else {
-                PaintUtil.paintMatrix(g, tetrisModel.getGameDisplayMatrix(), baseX, baseY, width, height);
+                boardRenderer.paint(g, displayBuffer, baseX, baseY, boardWidth, boardHeight, Color.BLACK, null);
             }
         }
 
+        // 绘制调试信息层
+        if (debugOverlayVisible) {
+            paintDebugOverlay(g, baseX, baseY);
+        }
+
         // 恢复画笔颜色
         g.setColor(tempColor);
     }
 
-    public void startRefresh() {
-        // 停止原有刷新线程
-        stopRefresh();
-        // 创建并启动刷新线程
-        refreshThread = new PanelRefreshThread(this, SLEEP_SPAN);
-        refreshThread.start();
-        // 更改刷新状态
-        onRefreshing = true;
+    /**
+     *  绘制边距及棋盘背景
+     * */
+    @Override
+    public void paintBackground(Graphics g, int width, int height) {
+        int boardWidth = PaintUtil.getBoardWidth(width, height);
+        int boardHeight = 2 * boardWidth;
+
+        g.setColor(Color.GRAY);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        g.fillRect((width - boardWidth) / 2, (height - boardHeight) / 2, boardWidth, boardHeight);
+    }
+
+    @Override
+    public void invalidateCache() {
+        boardRenderer.invalidate();
     }
 
-    public void stopRefresh() {
-        if (null != refreshThread) {
-            refreshThread.callStop();
-        }
-        // 更改刷新状态
-        onRefreshing = false;
+    /**
+     *  获取最近一次绘制所反映的状态版本号
+     * */
+    public long getDisplayVersion() {
+        return displayVersion;
+    }
+
+    /**
+     *  设置调试信息层的数据来源
+     * */
+    public void setDebugOverlay(RenderLoop renderLoop, LatencyTracker latencyTracker) {
+        this.renderLoop = renderLoop;
+        this.latencyTracker = latencyTracker;
+    }
+
+    public void setDebugOverlayVisible(boolean debugOverlayVisible) {
+        this.debugOverlayVisible = debugOverlayVisible;
+    }
+
+    public boolean isDebugOverlayVisible() {
+        return debugOverlayVisible;
     }
 
     /**
-     *  获取刷新状态
+     *  绘制调试信息层（帧时间、输入延迟的 p50/p99/max 及样本数，单位毫秒）
      * */
-    public boolean isOnRefreshing() {
-        return onRefreshing;
+    private void paintDebugOverlay(Graphics g, int x, int y) {
+        g.setFont(OVERLAY_FONT);
+        FontMetrics fontMetrics = g.getFontMetrics();
+        int lineHeight = fontMetrics.getHeight();
+        String frameLine = null == renderLoop ? "frame   n/a" : formatHistogram("frame  ", renderLoop.getFrameTimeHistogram());
+        String latencyLine = null == latencyTracker ? "input   n/a" : formatHistogram("input  ", latencyTracker.getLatencyHistogram());
+        String dirtyLine = "dirty   " + boardRenderer.getDirtyCellCounts() + " cells";
+        String[] lines = {"       p50/p99/max", frameLine, latencyLine, dirtyLine};
+
+        int overlayWidth = 0;
+        for (String line : lines) {
+            overlayWidth = Math.max(overlayWidth, fontMetrics.stringWidth(line));
+        }
+        g.setColor(OVERLAY_BACKGROUND);
+        g.fillRect(x, y, overlayWidth + 8, lineHeight * lines.length + 6);
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], x + 4, y + 3 + lineHeight * i + fontMetrics.getAscent());
+        }
+    }
+
+    private static String formatHistogram(String label, Histogram histogram) {
+        return String.format("%s%.1f/%.1f/%.1f ms n=%d", label,
+                histogram.getPercentileNanos(50) / 1e6, histogram.getPercentileNanos(99) / 1e6,
+                histogram.getMaxNanos() / 1e6, histogram.getTotalCounts());
     }
 }
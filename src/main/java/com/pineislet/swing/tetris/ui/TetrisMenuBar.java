@@ -1,6 +1,7 @@
 package com.pineislet.swing.tetris.ui;
 
 import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.replay.ReplayPlayer;
 
 import javax.swing.*;
 import java.awt.*;
@@ -24,6 +25,8 @@ public class TetrisMenuBar extends JMenuBar {
     private JMenuItem setSpeedLevelItem;
     private JMenuItem setSensitivityLevelItem;
 
+    private ReplayPlayer replayPlayer;
+
     public TetrisMenuBar(TetrisModel tetrisModel) {
         this.tetrisModel = tetrisModel;
         initComponents();
@@ -31,6 +34,15 @@ public class TetrisMenuBar extends JMenuBar {
         addListener();
     }
 
+    /**
+     *  构造方法（回放模式，仅包含回放菜单）
+     * */
+    public TetrisMenuBar(ReplayPlayer replayPlayer) {
+        this.tetrisModel = replayPlayer.getModel();
+        this.replayPlayer = replayPlayer;
+        setupReplayMenu();
+    }
+
     private void initComponents() {
         gameMenu = new JMenu("游戏");
         resetItem = new JMenuItem("游戏重置");
@@ -57,6 +69,39 @@ public class TetrisMenuBar extends JMenuBar {
         add(aboutMenu);
     }
 
+    private void setupReplayMenu() {
+        JMenu replayMenu = new JMenu("回放");
+        JMenuItem playItem = new JMenuItem("播放");
+        JMenuItem pauseItem = new JMenuItem("暂停");
+        JMenuItem normalSpeedItem = new JMenuItem("1倍速");
+        JMenuItem fastSpeedItem = new JMenuItem("4倍速");
+        JMenuItem maxSpeedItem = new JMenuItem("最快速度");
+        JMenuItem seekItem = new JMenuItem("跳转至砖块");
+
+        replayMenu.add(playItem);
+        replayMenu.add(pauseItem);
+        replayMenu.addSeparator();
+        replayMenu.add(normalSpeedItem);
+        replayMenu.add(fastSpeedItem);
+        replayMenu.add(maxSpeedItem);
+        replayMenu.addSeparator();
+        replayMenu.add(seekItem);
+        add(replayMenu);
+
+        playItem.addActionListener(e -> replayPlayer.play());
+        pauseItem.addActionListener(e -> replayPlayer.pause());
+        normalSpeedItem.addActionListener(e -> replayPlayer.setSpeed(ReplayPlayer.Speed.NORMAL));
+        fastSpeedItem.addActionListener(e -> replayPlayer.setSpeed(ReplayPlayer.Speed.FAST));
+        maxSpeedItem.addActionListener(e -> replayPlayer.setSpeed(ReplayPlayer.Speed.MAX));
+        seekItem.addActionListener(e -> EventQueue.invokeLater(() -> {
+            String result = JOptionPane.showInputDialog(this, "请输入砖块序号", replayPlayer.getPiece());
+            if (null != result) {
+                replayPlayer.seekToPiece(Integer.valueOf(result.trim()));
+                getTopLevelAncestor().repaint();
+            }
+        }));
+    }
+
     private void addListener() {
         resetItem.addActionListener(e -> tetrisModel.changeGameStatus(TetrisModel.GameStatus.PREPARE));
         startItem.addActionListener(e -> tetrisModel.changeGameStatus(TetrisModel.GameStatus.PLAYING));
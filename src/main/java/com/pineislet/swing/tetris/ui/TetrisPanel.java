@@ -0,0 +1,37 @@
+package com.pineislet.swing.tetris.ui;
+
+import java.awt.*;
+
+/**
+ * 可由 TetrisCanvas 主动绘制的面板
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface TetrisPanel {
+
+    /**
+     *  绘制面板内容
+     *
+     *  @param g 画笔（原点为面板左上角）
+     *  @param width 面板宽度
+     *  @param height 面板高度
+     * */
+    void paintPanel(Graphics g, int width, int height);
+
+    /**
+     *  绘制面板的固定内容（由 TetrisCanvas 绘制在固定图层中，尺寸改变时才调用；paintPanel 只需绘制其余内容）
+     *
+     *  @param g 画笔（原点为面板左上角）
+     *  @param width 面板宽度
+     *  @param height 面板高度
+     * */
+    default void paintBackground(Graphics g, int width, int height) {
+    }
+
+    /**
+     *  使面板缓存的图像失效（下次绘制时全部重绘，可在任意线程调用）
+     * */
+    void invalidateCache();
+}
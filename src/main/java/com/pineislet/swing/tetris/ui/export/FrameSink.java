@@ -0,0 +1,30 @@
+package com.pineislet.swing.tetris.ui.export;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * 帧输出目标
+ * 按顺序接收导出的帧，帧率由调用方决定
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public interface FrameSink {
+
+    /**
+     *  输出一帧（调用返回后图像可被复用）
+     * */
+    void writeFrame(BufferedImage frame) throws IOException;
+
+    /**
+     *  重复输出上一帧（画面未改变时调用，可省去重新编码）
+     * */
+    void repeatFrame() throws IOException;
+
+    /**
+     *  结束输出
+     * */
+    void close() throws IOException;
+}
@@ -0,0 +1,67 @@
+package com.pineislet.swing.tetris.ui.export;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * PNG 序列帧输出目标
+ * 每帧写入目录下按序编号的 PNG 文件（frame-000000.png、frame-000001.png ……），重复帧直接复制上一帧的文件
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class PngSequenceSink implements FrameSink {
+
+    /**
+     *  文件名格式
+     * */
+    private static final String FILE_NAME_FORMAT = "frame-%06d.png";
+
+    private final Path directory;
+
+    /**
+     *  已输出帧数及上一帧文件
+     * */
+    private int frameCounts;
+    private Path lastFile;
+
+    public PngSequenceSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public void writeFrame(BufferedImage frame) throws IOException {
+        Path file = nextFile();
+        if (!ImageIO.write(frame, "png", file.toFile())) {
+            throw new IOException("no png writer available");
+        }
+        lastFile = file;
+    }
+
+    @Override
+    public void repeatFrame() throws IOException {
+        if (null == lastFile) {
+            throw new IllegalStateException("no frame to repeat");
+        }
+        Path file = nextFile();
+        Files.copy(lastFile, file, StandardCopyOption.REPLACE_EXISTING);
+        lastFile = file;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public int getFrameCounts() {
+        return frameCounts;
+    }
+
+    private Path nextFile() {
+        return directory.resolve(String.format(FILE_NAME_FORMAT, frameCounts++));
+    }
+}
@@ -0,0 +1,78 @@
+package com.pineislet.swing.tetris.ui.export;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 原始 RGB 帧输出目标
+ * 每帧按行输出每个像素的 R、G、B 三个字节（即 ffmpeg 的 rawvideo / rgb24 格式），可直接写入管道交给编码器：
+ * ffmpeg -f rawvideo -pix_fmt rgb24 -s 宽x高 -r 帧率 -i - replay.mp4
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class RawRgbSink implements FrameSink {
+
+    private final OutputStream outputStream;
+
+    /**
+     *  帧字节缓冲区（保留上一帧，重复帧直接输出）
+     * */
+    private byte[] buffer;
+    private int length;
+
+    public RawRgbSink(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void writeFrame(BufferedImage frame) throws IOException {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        length = 3 * width * height;
+        if (null == buffer || buffer.length < length) {
+            buffer = new byte[length];
+        }
+
+        // 整型像素图像直接读取像素数组，其它图像逐行读取
+        if (frame.getType() == BufferedImage.TYPE_INT_RGB && frame.getRaster().getDataBuffer() instanceof DataBufferInt) {
+            convert(((DataBufferInt) frame.getRaster().getDataBuffer()).getData(), width * height, 0);
+        }
+        else {
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++) {
+                frame.getRGB(0, y, width, 1, row, 0, width);
+                convert(row, width, 3 * width * y);
+            }
+        }
+        outputStream.write(buffer, 0, length);
+    }
+
+    @Override
+    public void repeatFrame() throws IOException {
+        if (null == buffer) {
+            throw new IllegalStateException("no frame to repeat");
+        }
+        outputStream.write(buffer, 0, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+
+    /**
+     *  将整型像素转换为 RGB 字节
+     * */
+    private void convert(int[] pixels, int counts, int offset) {
+        for (int i = 0; i < counts; i++) {
+            int pixel = pixels[i];
+            buffer[offset++] = (byte) (pixel >> 16);
+            buffer[offset++] = (byte) (pixel >> 8);
+            buffer[offset++] = (byte) pixel;
+        }
+    }
+}
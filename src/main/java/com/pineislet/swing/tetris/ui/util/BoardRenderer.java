@@ -0,0 +1,135 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 棋盘增量渲染器
+ * 在离屏缓冲图像中保存上次绘制的棋盘，每帧与新的显示缓冲区逐格比较，仅重绘发生变化的格子，再整体贴图到目标画笔
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class BoardRenderer {
+
+    /**
+     *  未绘制标记（与任何格子值都不相同，用于强制全部重绘）
+     * */
+    private static final int UNDRAWN = Integer.MIN_VALUE;
+
+    /**
+     *  行数与列数
+     * */
+    private final int rows;
+    private final int columns;
+
+    /**
+     *  已绘制的格子值
+     * */
+    private final int[] drawnCells;
+
+    /**
+     *  离屏缓冲图像及其画笔
+     * */
+    private BufferedImage backBuffer;
+    private Graphics2D backGraphics;
+
+    /**
+     *  绘制缓冲图像时使用的颜色
+     * */
+    private Color background;
+    private Color foreground;
+
+    /**
+     *  上一帧重绘的格子数
+     * */
+    private int dirtyCellCounts;
+
+    public BoardRenderer(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.drawnCells = new int[rows * columns];
+    }
+
+    /**
+     *  绘制棋盘
+     *
+     *  @param g 目标画笔
+     *  @param cells 显示缓冲区（第 i 行第 j 列位于 i * columns + j）
+     *  @param x 绘制区域左上角横坐标
+     *  @param y 绘制区域左上角纵坐标
+     *  @param width 绘制区域宽度
+     *  @param height 绘制区域高度
+     *  @param background 背景色
+     *  @param foreground 前景色（为空时按方块种类决定颜色）
+     * */
+    public void paint(Graphics g, int[] cells, int x, int y, int width, int height, Color background, Color foreground) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        // 尺寸或颜色改变时重建缓冲图像
+        if (null == backBuffer || backBuffer.getWidth() != width || backBuffer.getHeight() != height) {
+            createBackBuffer(g, width, height);
+            this.background = null;
+        }
+        if (!Objects.equals(this.background, background) || !Objects.equals(this.foreground, foreground)) {
+            this.background = background;
+            this.foreground = foreground;
+            backGraphics.setColor(background);
+            backGraphics.fillRect(0, 0, width, height);
+            Arrays.fill(drawnCells, UNDRAWN);
+        }
+
+        // 逐格比较并重绘变化的格子
+        int cellWidth = width / columns;
+        int cellHeight = height / rows;
+        int dirtyCellCounts = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                int index = i * columns + j;
+                int value = cells[index];
+                if (value != drawnCells[index]) {
+                    PaintUtil.paintCell(backGraphics, value, cellWidth * j, cellHeight * i, cellWidth, cellHeight, background, foreground);
+                    drawnCells[index] = value;
+                    dirtyCellCounts++;
+                }
+            }
+        }
+        this.dirtyCellCounts = dirtyCellCounts;
+
+        g.drawImage(backBuffer, x, y, null);
+    }
+
+    /**
+     *  使缓冲图像失效（下一帧全部重绘）
+     * */
+    public void invalidate() {
+        background = null;
+    }
+
+    /**
+     *  获取上一帧重绘的格子数
+     * */
+    public int getDirtyCellCounts() {
+        return dirtyCellCounts;
+    }
+
+    /**
+     *  创建与目标画笔兼容的缓冲图像
+     * */
+    private void createBackBuffer(Graphics g, int width, int height) {
+        if (null != backGraphics) {
+            backGraphics.dispose();
+        }
+        if (g instanceof Graphics2D) {
+            backBuffer = ((Graphics2D) g).getDeviceConfiguration().createCompatibleImage(width, height);
+        }
+        else {
+            backBuffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        backGraphics = backBuffer.createGraphics();
+    }
+}
@@ -0,0 +1,59 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 缓存图层
+ * 保存一块与目标画笔兼容的离屏图像及其画笔，内容不变时每帧只需一次贴图
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class CachedLayer {
+
+    /**
+     *  图像及其画笔
+     * */
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    /**
+     *  创建图像时目标画笔的图形配置
+     * */
+    private GraphicsConfiguration configuration;
+
+    /**
+     *  确保图像与目标画笔兼容且尺寸相同，否则重建图像
+     *
+     *  @return 图像是否重建（重建后内容为空，需重新绘制）
+     * */
+    public boolean ensure(Graphics g, int width, int height) {
+        GraphicsConfiguration configuration = g instanceof Graphics2D ? ((Graphics2D) g).getDeviceConfiguration() : null;
+        if (null != image && image.getWidth() == width && image.getHeight() == height && this.configuration == configuration) {
+            return false;
+        }
+        this.configuration = configuration;
+        if (null != graphics) {
+            graphics.dispose();
+        }
+        image = null == configuration ? new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB) : configuration.createCompatibleImage(width, height);
+        graphics = image.createGraphics();
+        return true;
+    }
+
+    /**
+     *  获取图像画笔（调用方不应释放）
+     * */
+    public Graphics2D getGraphics() {
+        return graphics;
+    }
+
+    /**
+     *  将图像绘制到目标画笔
+     * */
+    public void paint(Graphics g, int x, int y) {
+        g.drawImage(image, x, y, null);
+    }
+}
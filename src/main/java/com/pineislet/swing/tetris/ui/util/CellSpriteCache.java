@@ -0,0 +1,124 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import com.pineislet.swing.tetris.model.Tile;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * 格子贴图缓存
+ * 按格子尺寸与配色预先绘制每种格子值（砖块、投影、空格）的兼容图像，绘制格子时只需一次贴图
+ * 同时保留少量尺寸与配色组合（棋盘、后续砖块、hold区各用一种尺寸），超出时淘汰最早的组合
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class CellSpriteCache {
+
+    /**
+     *  最大格子值（砖块种类数），格子值范围为 -MAX_VALUE——MAX_VALUE
+     * */
+    private static final int MAX_VALUE = Tile.values().length;
+
+    /**
+     *  最多保留的尺寸与配色组合数
+     * */
+    private static final int MAX_SPRITE_SETS = 8;
+
+    /**
+     *  共享缓存（各面板共用）
+     * */
+    private static final CellSpriteCache SHARED = new CellSpriteCache();
+
+    /**
+     *  贴图组合
+     * */
+    private final SpriteSet[] spriteSets = new SpriteSet[MAX_SPRITE_SETS];
+
+    /**
+     *  下一个被替换的组合位置
+     * */
+    private int nextSlot;
+
+    public static CellSpriteCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     *  获取格子贴图（不存在时绘制该尺寸与配色下的全部贴图）
+     *
+     *  @param configuration 目标图形配置
+     *  @param value 格子值
+     *  @param cellWidth 格子宽度
+     *  @param cellHeight 格子高度
+     *  @param background 背景色
+     *  @param foreground 前景色（为空时按方块种类决定颜色）
+     *  @return 贴图（包括格子背景）
+     * */
+    public synchronized Image getSprite(GraphicsConfiguration configuration, int value, int cellWidth, int cellHeight, Color background, Color foreground) {
+        SpriteSet spriteSet = null;
+        for (SpriteSet candidate : spriteSets) {
+            if (null != candidate && candidate.matches(configuration, cellWidth, cellHeight, background, foreground)) {
+                spriteSet = candidate;
+                break;
+            }
+        }
+        if (null == spriteSet) {
+            spriteSet = new SpriteSet(configuration, cellWidth, cellHeight, background, foreground);
+            spriteSets[nextSlot] = spriteSet;
+            nextSlot = (nextSlot + 1) % MAX_SPRITE_SETS;
+        }
+        return spriteSet.sprites[value + MAX_VALUE];
+    }
+
+    /**
+     *  清空缓存（更换配色后调用）
+     * */
+    public synchronized void clear() {
+        for (int i = 0; i < MAX_SPRITE_SETS; i++) {
+            spriteSets[i] = null;
+        }
+        nextSlot = 0;
+    }
+
+    /**
+     *  同一尺寸与配色下的全部格子贴图
+     * */
+    private static class SpriteSet {
+        private final GraphicsConfiguration configuration;
+        private final int cellWidth;
+        private final int cellHeight;
+        private final Color background;
+        private final Color foreground;
+        private final BufferedImage[] sprites;
+
+        private SpriteSet(GraphicsConfiguration configuration, int cellWidth, int cellHeight, Color background, Color foreground) {
+            this.configuration = configuration;
+            this.cellWidth = cellWidth;
+            this.cellHeight = cellHeight;
+            this.background = background;
+            this.foreground = foreground;
+            this.sprites = new BufferedImage[2 * MAX_VALUE + 1];
+            for (int value = -MAX_VALUE; value <= MAX_VALUE; value++) {
+                BufferedImage sprite = configuration.createCompatibleImage(cellWidth, cellHeight);
+                Graphics2D g = sprite.createGraphics();
+                try {
+                    g.setColor(background);
+                    g.fillRect(0, 0, cellWidth, cellHeight);
+                    PaintUtil.drawCell(g, value, 0, 0, cellWidth, cellHeight, background, foreground);
+                } finally {
+                    g.dispose();
+                }
+                sprites[value + MAX_VALUE] = sprite;
+            }
+        }
+
+        private boolean matches(GraphicsConfiguration configuration, int cellWidth, int cellHeight, Color background, Color foreground) {
+            return this.cellWidth == cellWidth && this.cellHeight == cellHeight
+                    && this.configuration.equals(configuration)
+                    && Objects.equals(this.background, background) && Objects.equals(this.foreground, foreground);
+        }
+    }
+}
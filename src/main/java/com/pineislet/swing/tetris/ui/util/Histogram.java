@@ -0,0 +1,114 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import java.util.Arrays;
+
+/**
+ * 时间直方图
+ * 以微秒为单位按对数分桶记录耗时（每个 2 的幂区间再等分为 16 个桶，相对误差不超过 1/16），记录不分配内存
+ * 仅供单线程记录，其它线程读取的统计值可能略有滞后
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class Histogram {
+
+    /**
+     *  每个 2 的幂区间的桶数（2 ^ SUB_BUCKET_BITS）
+     * */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNTS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     *  桶数（可记录至 2 ^ 40 微秒）
+     * */
+    private static final int BUCKET_COUNTS = SUB_BUCKET_COUNTS * (40 - SUB_BUCKET_BITS + 1);
+
+    /**
+     *  各桶计数
+     * */
+    private final long[] counts = new long[BUCKET_COUNTS];
+
+    /**
+     *  记录数及最大值（纳秒）
+     * */
+    private volatile long totalCounts;
+    private volatile long maxNanos;
+
+    /**
+     *  记录一次耗时
+     *
+     *  @param nanos 耗时（纳秒，负数按 0 记录）
+     * */
+    public void record(long nanos) {
+        nanos = Math.max(nanos, 0);
+        counts[bucketOf(nanos / 1000)]++;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+        totalCounts++;
+    }
+
+    /**
+     *  获取百分位数
+     *
+     *  @param percentile 百分位（0 ~ 100）
+     *  @return 该百分位所在桶的上界（纳秒，不超过最大值），无记录时返回 0
+     * */
+    public long getPercentileNanos(double percentile) {
+        long totalCounts = this.totalCounts;
+        if (totalCounts == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(totalCounts * percentile / 100), 1);
+        long accumulate = 0;
+        for (int i = 0; i < BUCKET_COUNTS; i++) {
+            accumulate += counts[i];
+            if (accumulate >= rank) {
+                return Math.min(upperBoundOf(i) * 1000, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getTotalCounts() {
+        return totalCounts;
+    }
+
+    /**
+     *  清空记录
+     * */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        maxNanos = 0;
+        totalCounts = 0;
+    }
+
+    /**
+     *  计算微秒值所在的桶：小于 SUB_BUCKET_COUNTS 时每个值一个桶，否则按最高位所在区间再取其后 SUB_BUCKET_BITS 位
+     * */
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKET_COUNTS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNTS - 1);
+        return Math.min(SUB_BUCKET_COUNTS * (exponent - SUB_BUCKET_BITS + 1) + subBucket, BUCKET_COUNTS - 1);
+    }
+
+    /**
+     *  计算桶的上界（微秒，不含）
+     * */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNTS) {
+            return bucket + 1;
+        }
+        int exponent = bucket / SUB_BUCKET_COUNTS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNTS;
+        return (SUB_BUCKET_COUNTS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,78 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import com.pineislet.swing.tetris.model.InputAction;
+import com.pineislet.swing.tetris.model.event.OnInputAppliedListener;
+
+/**
+ * 输入延迟统计（从按键到画面）
+ * 输入线程提交操作时附带按键时间，模型执行操作后以该时间及操作产生的状态版本号回调本统计（未改变状态的操作，如撞墙的移动，不回调），
+ * 渲染线程在每帧显示后登记该帧反映的状态版本号，第一个版本号不小于登记版本号的帧即为反映该操作的帧，二者时间差记为一次输入延迟
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class LatencyTracker implements OnInputAppliedListener {
+
+    /**
+     *  最多同时等待的输入数（超出时丢弃新的输入）
+     * */
+    private static final int MAX_PENDING_INPUTS = 64;
+
+    /**
+     *  等待显示的输入（按登记顺序，版本号递增）
+     * */
+    private final long[] pendingVersions = new long[MAX_PENDING_INPUTS];
+    private final long[] pendingNanos = new long[MAX_PENDING_INPUTS];
+    private int pendingHead;
+    private int pendingCounts;
+
+    /**
+     *  输入延迟直方图
+     * */
+    private final Histogram latencyHistogram = new Histogram();
+
+    /**
+     *  获取输入事件发生的时间（System.nanoTime 时间轴）
+     *  按事件时间戳（毫秒）扣除事件在队列中等待的时间
+     *
+     *  @param eventMillis 事件时间戳（System.currentTimeMillis 时间轴）
+     * */
+    public static long inputNanos(long eventMillis) {
+        long now = System.nanoTime();
+        long queuedMillis = System.currentTimeMillis() - eventMillis;
+        return queuedMillis > 0 ? now - queuedMillis * 1000000L : now;
+    }
+
+    @Override
+    public synchronized void onInputApplied(InputAction action, long inputNanos, long version) {
+        if (pendingCounts == MAX_PENDING_INPUTS) {
+            return;
+        }
+        int tail = (pendingHead + pendingCounts) % MAX_PENDING_INPUTS;
+        pendingVersions[tail] = version;
+        pendingNanos[tail] = inputNanos;
+        pendingCounts++;
+    }
+
+    /**
+     *  登记一帧已显示
+     *
+     *  @param version 该帧反映的状态版本号
+     *  @param presentNanos 显示时间
+     * */
+    public synchronized void onFramePresented(long version, long presentNanos) {
+        while (pendingCounts > 0 && pendingVersions[pendingHead] <= version) {
+            latencyHistogram.record(presentNanos - pendingNanos[pendingHead]);
+            pendingHead = (pendingHead + 1) % MAX_PENDING_INPUTS;
+            pendingCounts--;
+        }
+    }
+
+    /**
+     *  获取输入延迟直方图
+     * */
+    public Histogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+}
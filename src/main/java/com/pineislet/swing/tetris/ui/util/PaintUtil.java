@@ -1,6 +1,8 @@
 package com.pineislet.swing.tetris.ui.util;
 
 
+import com.pineislet.swing.tetris.model.TileShape;
+
 import java.awt.*;
 
 /**
@@ -31,47 +33,41 @@ public class PaintUtil {
                 if (null != matrix[i]) {
                     int cellWidth= width / matrix[i].length;
                     for (int j = 0; j < matrix[i].length; j++) {
-                        // 无前景色，按方块种类设置前景色
-                        if (foreground == null) {
-                            switch (Math.abs(matrix[i][j])) {
-                                case 1:
-                                    g.setColor(Color.RED);
-                                    break;
-                                case 2:
-                                    g.setColor(Color.YELLOW);
-                                    break;
-                                case 3:
-                                    g.setColor(Color.BLUE);
-                                    break;
-                                case 4:
-                                    g.setColor(Color.CYAN);
-                                    break;
-                                case 5:
-                                    g.setColor(Color.MAGENTA);
-                                    break;
-                                case 6:
-                                    g.setColor(Color.GREEN);
-                                    break;
-                                case 7:
-                                    g.setColor(Color.WHITE);
-                                    break;
-                                default:
-                                    g.setColor(background);
-                            }
-
-                        }
-                        // 有前景色，设置前景色
-                        else {
-                            g.setColor(Color.GRAY);
+                        if (matrix[i][j] != 0) {
+                            paintCell(g, matrix[i][j], x + cellWidth * j, y + cellHeight * i, cellWidth, cellHeight, background, foreground);
                         }
+                    }
+                }
+            }
+        }
 
-                        if (matrix[i][j] > 0) {
-                            g.fillRect(x + cellWidth * j + 1, y + cellHeight * i + 1, cellWidth - 2, cellHeight - 2);
-                        }
-                        if (matrix[i][j] < 0) {
-                            g.drawRect(x + cellWidth * j + 1, y + cellHeight * i + 1, cellWidth - 2, cellHeight - 2);
-                        }
+        // 恢复画笔颜色
+        g.setColor(primaryColor);
+    }
 
+    /**
+     *  绘制按行存放的数据缓冲区对应图像
+     *
+     *  @param cells 数据缓冲区（第 i 行第 j 列位于 i * columns + j）
+     *  @param rows 行数
+     *  @param columns 列数
+     * */
+    public static void paintCells(Graphics g, int[] cells, int rows, int columns, int x, int y, int width, int height, Color background, Color foreground) {
+        // 记录画笔颜色
+        Color primaryColor = g.getColor();
+
+        // 绘制背景
+        g.setColor(background);
+        g.fillRect(x, y, width, height);
+
+        if (null != cells) {
+            int cellHeight = height / rows;
+            int cellWidth = width / columns;
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    int value = cells[i * columns + j];
+                    if (value != 0) {
+                        paintCell(g, value, x + cellWidth * j, y + cellHeight * i, cellWidth, cellHeight, background, foreground);
                     }
                 }
             }
@@ -80,4 +76,109 @@ public class PaintUtil {
         // 恢复画笔颜色
         g.setColor(primaryColor);
     }
+
+    /**
+     *  绘制单个格子（包括格子背景），使用共享的格子贴图缓存
+     *
+     *  @param value 格子值（正数为砖块，负数为投影，0 为空格）
+     *  @param x 格子左上角横坐标
+     *  @param y 格子左上角纵坐标
+     * */
+    public static void paintCell(Graphics g, int value, int x, int y, int cellWidth, int cellHeight, Color background, Color foreground) {
+        if (cellWidth <= 0 || cellHeight <= 0) {
+            return;
+        }
+        if (g instanceof Graphics2D) {
+            GraphicsConfiguration configuration = ((Graphics2D) g).getDeviceConfiguration();
+            g.drawImage(CellSpriteCache.getShared().getSprite(configuration, value, cellWidth, cellHeight, background, foreground), x, y, null);
+        }
+        else {
+            g.setColor(background);
+            g.fillRect(x, y, cellWidth, cellHeight);
+            drawCell(g, value, x, y, cellWidth, cellHeight, background, foreground);
+        }
+    }
+
+    /**
+     *  直接绘制单个格子（不绘制背景，用于生成格子贴图）
+     * */
+    static void drawCell(Graphics g, int value, int x, int y, int cellWidth, int cellHeight, Color background, Color foreground) {
+        g.setColor(getCellColor(value, background, foreground));
+        if (value > 0) {
+            g.fillRect(x + 1, y + 1, cellWidth - 2, cellHeight - 2);
+        }
+        else if (value < 0) {
+            g.drawRect(x + 1, y + 1, cellWidth - 2, cellHeight - 2);
+        }
+    }
+
+    /**
+     *  绘制砖块形状对应图像
+     * */
+    public static void paintTile(Graphics g, TileShape shape, int x, int y, int width, int height) {
+        paintTile(g, shape, x, y, width, height, Color.black, null);
+    }
+
+    public static void paintTile(Graphics g, TileShape shape, int x, int y, int width, int height, Color background, Color foreground) {
+        // 记录画笔颜色
+        Color primaryColor = g.getColor();
+
+        // 绘制背景
+        g.setColor(background);
+        g.fillRect(x, y, width, height);
+
+        if (null != shape) {
+            int cellHeight = height / TileShape.SIZE;
+            int cellWidth = width / TileShape.SIZE;
+            for (int k = 0; k < shape.getCellCounts(); k++) {
+                paintCell(g, shape.getValue(), x + cellWidth * shape.getCellColumn(k), y + cellHeight * shape.getCellRow(k), cellWidth, cellHeight, background, foreground);
+            }
+        }
+
+        // 恢复画笔颜色
+        g.setColor(primaryColor);
+    }
+
+    /**
+     *  获取棋盘绘制宽度（棋盘高度为宽度的两倍，在绘制区域内尽量放大）
+     *
+     *  @param width 绘制区域宽度
+     *  @param height 绘制区域高度
+     * */
+    public static int getBoardWidth(int width, int height) {
+        return Math.min(width, height / 2);
+    }
+
+    /**
+     *  获取格子颜色
+     *
+     *  @param value 格子值（负数表示投影）
+     *  @param background 背景色
+     *  @param foreground 前景色（为空时按方块种类决定颜色）
+     * */
+    static Color getCellColor(int value, Color background, Color foreground) {
+        // 有前景色，使用前景色
+        if (foreground != null) {
+            return Color.GRAY;
+        }
+        // 无前景色，按方块种类设置前景色
+        switch (Math.abs(value)) {
+            case 1:
+                return Color.RED;
+            case 2:
+                return Color.YELLOW;
+            case 3:
+                return Color.BLUE;
+            case 4:
+                return Color.CYAN;
+            case 5:
+                return Color.MAGENTA;
+            case 6:
+                return Color.GREEN;
+            case 7:
+                return Color.WHITE;
+            default:
+                return background;
+        }
+    }
 }
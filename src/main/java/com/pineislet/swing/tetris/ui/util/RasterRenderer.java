@@ -0,0 +1,197 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * 光栅渲染器（无界面）
+ * 不经过 Graphics，直接写入图像的像素数组绘制棋盘，用于导出回放视频或缩略图
+ * 布局与游戏区面板相同，配色与 PaintUtil 相同；状态版本号未改变时不绘制，改变时仅重绘变化的格子
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class RasterRenderer {
+
+    /**
+     *  最大格子值（砖块种类数）
+     * */
+    private static final int MAX_VALUE = Tile.values().length;
+
+    /**
+     *  未绘制标记（与任何格子值都不相同，用于强制全部重绘）
+     * */
+    private static final int UNDRAWN = Integer.MIN_VALUE;
+
+    /**
+     *  颜色
+     * */
+    private static final Color BACKGROUND = Color.BLACK;        // 棋盘背景色
+    private static final Color MARGIN = Color.GRAY;             // 棋盘外边距颜色
+    private static final Color OVER_FOREGROUND = Color.GRAY;    // 游戏结束时的前景色
+
+    /**
+     *  目标图像及其像素数组
+     * */
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final int width;
+
+    /**
+     *  棋盘位置及格子尺寸
+     * */
+    private final int baseX;
+    private final int baseY;
+    private final int cellWidth;
+    private final int cellHeight;
+
+    /**
+     *  调色板（下标为格子值 + MAX_VALUE）
+     * */
+    private final int[] palette;
+    private final int[] overPalette;
+    private final int background;
+
+    /**
+     *  显示缓冲区及其对应的状态版本号
+     * */
+    private final int[] displayBuffer = new int[TetrisModel.GAME_WIDTH * TetrisModel.GAME_HEIGHT];
+    private long displayVersion = -1;
+
+    /**
+     *  已绘制的格子值及配色
+     * */
+    private final int[] drawnCells = new int[TetrisModel.GAME_WIDTH * TetrisModel.GAME_HEIGHT];
+    private boolean drawnOver;
+
+    /**
+     *  上一帧重绘的格子数
+     * */
+    private int dirtyCellCounts;
+
+    /**
+     *  构造方法
+     *
+     *  @param width 图像宽度
+     *  @param height 图像高度
+     * */
+    public RasterRenderer(int width, int height) {
+        this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.width = width;
+
+        // 确定绘制区域（与游戏区面板相同）
+        int boardWidth = PaintUtil.getBoardWidth(width, height);
+        int boardHeight = 2 * boardWidth;
+        this.baseX = (width - boardWidth) / 2;
+        this.baseY = (height - boardHeight) / 2;
+        this.cellWidth = boardWidth / TetrisModel.GAME_WIDTH;
+        this.cellHeight = boardHeight / TetrisModel.GAME_HEIGHT;
+
+        this.palette = createPalette(null);
+        this.overPalette = createPalette(OVER_FOREGROUND);
+        this.background = BACKGROUND.getRGB();
+
+        // 绘制外边距及棋盘背景
+        Arrays.fill(pixels, MARGIN.getRGB());
+        fillRect(baseX, baseY, boardWidth, boardHeight, background);
+    }
+
+    /**
+     *  绘制模型当前状态
+     *
+     *  @return 图像是否改变
+     * */
+    public boolean render(TetrisModel tetrisModel) {
+        long version = tetrisModel.fillGameDisplay(displayBuffer, displayVersion);
+        if (version == displayVersion) {
+            dirtyCellCounts = 0;
+            return false;
+        }
+        displayVersion = version;
+
+        // 游戏结束与否配色不同，切换时全部重绘
+        boolean over = tetrisModel.getGameStatus() == TetrisModel.GameStatus.OVER;
+        if (over != drawnOver) {
+            drawnOver = over;
+            Arrays.fill(drawnCells, UNDRAWN);
+        }
+        int[] palette = over ? overPalette : this.palette;
+
+        int dirtyCellCounts = 0;
+        for (int i = 0; i < TetrisModel.GAME_HEIGHT; i++) {
+            for (int j = 0; j < TetrisModel.GAME_WIDTH; j++) {
+                int index = i * TetrisModel.GAME_WIDTH + j;
+                int value = displayBuffer[index];
+                if (value != drawnCells[index]) {
+                    paintCell(baseX + cellWidth * j, baseY + cellHeight * i, value, palette[value + MAX_VALUE]);
+                    drawnCells[index] = value;
+                    dirtyCellCounts++;
+                }
+            }
+        }
+        this.dirtyCellCounts = dirtyCellCounts;
+        return dirtyCellCounts > 0;
+    }
+
+    /**
+     *  获取目标图像（每次绘制复用同一图像）
+     * */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     *  获取上一帧重绘的格子数
+     * */
+    public int getDirtyCellCounts() {
+        return dirtyCellCounts;
+    }
+
+    /**
+     *  绘制单个格子（与 PaintUtil 绘制的图形相同：砖块为内缩 1 像素的实心方块，投影为内缩 1 像素的边框）
+     * */
+    private void paintCell(int x, int y, int value, int color) {
+        fillRect(x, y, cellWidth, cellHeight, background);
+        if (value > 0) {
+            fillRect(x + 1, y + 1, cellWidth - 2, cellHeight - 2, color);
+        }
+        else if (value < 0) {
+            fillRect(x + 1, y + 1, cellWidth - 1, 1, color);
+            fillRect(x + 1, y + cellHeight - 1, cellWidth - 1, 1, color);
+            fillRect(x + 1, y + 1, 1, cellHeight - 1, color);
+            fillRect(x + cellWidth - 1, y + 1, 1, cellHeight - 1, color);
+        }
+    }
+
+    /**
+     *  填充矩形（调用方保证矩形位于图像内）
+     * */
+    private void fillRect(int x, int y, int width, int height, int color) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        for (int row = y, offset = y * this.width + x; row < y + height; row++, offset += this.width) {
+            Arrays.fill(pixels, offset, offset + width, color);
+        }
+    }
+
+    /**
+     *  创建调色板
+     *
+     *  @param foreground 前景色（为空时按方块种类决定颜色）
+     * */
+    private static int[] createPalette(Color foreground) {
+        int[] palette = new int[2 * MAX_VALUE + 1];
+        for (int value = -MAX_VALUE; value <= MAX_VALUE; value++) {
+            palette[value + MAX_VALUE] = PaintUtil.getCellColor(value, BACKGROUND, foreground).getRGB();
+        }
+        return palette;
+    }
+}
@@ -0,0 +1,232 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import java.awt.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 渲染循环
+ * 单个渲染线程按需绘制所有渲染目标：requestFrame 的多次请求合并为一帧，两帧间隔不小于一个显示器刷新周期；
+ * 一帧超时时错过的刷新周期计为丢帧，不排队补绘；无请求且未设置定时刷新时线程挂起
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class RenderLoop {
+
+    /**
+     *  默认刷新率（无法获取显示器刷新率时使用）
+     * */
+    public static final int DEFAULT_REFRESH_RATE = 60;
+
+    /**
+     *  帧时间平均值的平滑系数（指数移动平均，取 1/16）
+     * */
+    private static final int AVERAGE_SHIFT = 4;
+
+    /**
+     *  渲染目标
+     * */
+    public interface Renderer {
+
+        /**
+         *  绘制一帧（在渲染线程调用）
+         * */
+        void render();
+    }
+
+    /**
+     *  渲染目标列表
+     * */
+    private final List<Renderer> rendererList = new CopyOnWriteArrayList<>();
+
+    /**
+     *  帧间隔（纳秒）
+     * */
+    private final long periodNanos;
+
+    /**
+     *  渲染线程
+     * */
+    private final Thread renderThread;
+
+    /**
+     *  运行及请求绘制标识
+     * */
+    private volatile boolean running;
+    private volatile boolean frameRequested;
+
+    /**
+     *  定时刷新间隔（纳秒，0 表示不定时刷新）
+     * */
+    private volatile long refreshIntervalNanos;
+
+    /**
+     *  帧统计
+     * */
+    private volatile long lastFrameNanos;
+    private volatile long averageFrameNanos;
+    private volatile long frameCounts;
+    private volatile long droppedFrameCounts;
+
+    /**
+     *  帧绘制耗时直方图
+     * */
+    private final Histogram frameTimeHistogram = new Histogram();
+
+    /**
+     *  构造方法（按默认显示器刷新率）
+     * */
+    public RenderLoop() {
+        this(getRefreshRate());
+    }
+
+    /**
+     *  构造方法
+     *
+     *  @param refreshRate 每秒帧数
+     * */
+    public RenderLoop(int refreshRate) {
+        periodNanos = 1_000_000_000L / refreshRate;
+        renderThread = new Thread(this::loop, "tetris-render");
+        renderThread.setDaemon(true);
+    }
+
+    /**
+     *  获取默认显示器的刷新率
+     * */
+    public static int getRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        int refreshRate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+        return refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : refreshRate;
+    }
+
+    /**
+     *  启动渲染线程
+     * */
+    public void start() {
+        running = true;
+        renderThread.start();
+    }
+
+    /**
+     *  停止渲染线程
+     * */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(renderThread);
+    }
+
+    public void addRenderer(Renderer renderer) {
+        rendererList.add(renderer);
+        requestFrame();
+    }
+
+    public void removeRenderer(Renderer renderer) {
+        rendererList.remove(renderer);
+    }
+
+    /**
+     *  设置定时刷新间隔（用于无状态改变但需更新的内容，如计时）
+     *
+     *  @param refreshIntervalNanos 刷新间隔（纳秒），0 表示仅在请求时绘制
+     * */
+    public void setRefreshInterval(long refreshIntervalNanos) {
+        this.refreshIntervalNanos = refreshIntervalNanos;
+        LockSupport.unpark(renderThread);
+    }
+
+    /**
+     *  请求绘制一帧（不早于上一帧后一个刷新周期，期间的多次请求合并为一帧）
+     * */
+    public void requestFrame() {
+        if (!frameRequested) {
+            frameRequested = true;
+            LockSupport.unpark(renderThread);
+        }
+    }
+
+    /**
+     *  获取最近一帧的绘制耗时（纳秒）
+     * */
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    /**
+     *  获取平均帧绘制耗时（纳秒）
+     * */
+    public long getAverageFrameNanos() {
+        return averageFrameNanos;
+    }
+
+    public long getFrameCounts() {
+        return frameCounts;
+    }
+
+    public long getDroppedFrameCounts() {
+        return droppedFrameCounts;
+    }
+
+    /**
+     *  获取帧绘制耗时直方图
+     * */
+    public Histogram getFrameTimeHistogram() {
+        return frameTimeHistogram;
+    }
+
+    /**
+     *  渲染线程循环
+     * */
+    private void loop() {
+        long lastFrame = System.nanoTime() - periodNanos;
+        while (running) {
+            long now = System.nanoTime();
+            // 无请求时挂起，直至请求或定时刷新到期
+            if (!frameRequested) {
+                long interval = refreshIntervalNanos;
+                if (interval <= 0) {
+                    LockSupport.park(this);
+                    continue;
+                }
+                if (now - lastFrame < interval) {
+                    LockSupport.parkNanos(this, lastFrame + interval - now);
+                    continue;
+                }
+            }
+            // 距上一帧不足一个刷新周期时等待，期间到达的请求合并到这一帧
+            if (now - lastFrame < periodNanos) {
+                LockSupport.parkNanos(this, lastFrame + periodNanos - now);
+                continue;
+            }
+            frameRequested = false;
+
+            for (Renderer renderer : rendererList) {
+                renderer.render();
+            }
+            Toolkit.getDefaultToolkit().sync();
+            long end = System.nanoTime();
+            updateStatistics(end - now);
+
+            // 绘制耗时超过刷新周期，错过的周期计为丢帧
+            if (end - now > periodNanos) {
+                droppedFrameCounts += (end - now) / periodNanos;
+            }
+            lastFrame = now;
+        }
+    }
+
+    /**
+     *  更新帧统计（仅渲染线程调用）
+     * */
+    private void updateStatistics(long frameNanos) {
+        lastFrameNanos = frameNanos;
+        frameTimeHistogram.record(frameNanos);
+        averageFrameNanos = frameCounts == 0 ? frameNanos : averageFrameNanos + ((frameNanos - averageFrameNanos) >> AVERAGE_SHIFT);
+        frameCounts++;
+    }
+}
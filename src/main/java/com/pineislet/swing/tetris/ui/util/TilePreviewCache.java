@@ -0,0 +1,44 @@
+package com.pineislet.swing.tetris.ui.util;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Tile;
+
+import java.awt.*;
+
+/**
+ * 砖块预览图缓存
+ * 按一种预览尺寸保存每种砖块（及空预览）在游戏中与游戏结束两种配色下的图像，尺寸改变时重建
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class TilePreviewCache {
+
+    /**
+     *  预览图（第一维为是否游戏结束，第二维为砖块序号 + 1，0 为空预览）
+     * */
+    private final CachedLayer[][] previews = new CachedLayer[2][Tile.values().length + 1];
+
+    /**
+     *  获取预览图
+     *
+     *  @param g 目标画笔
+     *  @param tile 砖块（可为空）
+     *  @param size 预览尺寸
+     *  @param over 是否游戏结束（使用灰色前景）
+     * */
+    public CachedLayer getPreview(Graphics g, Tile tile, int size, boolean over) {
+        int index = null == tile ? 0 : tile.ordinal() + 1;
+        CachedLayer preview = previews[over ? 1 : 0][index];
+        if (null == preview) {
+            preview = new CachedLayer();
+            previews[over ? 1 : 0][index] = preview;
+        }
+        if (preview.ensure(g, size, size)) {
+            PaintUtil.paintTile(preview.getGraphics(), null == tile ? null : tile.getShape(Direction.NORTH),
+                    0, 0, size, size, Color.BLACK, over ? Color.GRAY : null);
+        }
+        return preview;
+    }
+}
@@ -0,0 +1,77 @@
+package com.pineislet.swing.tetris.model.event;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Tile;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 异步事件总线测试
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class AsyncEventBusTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final AsyncEventBus eventBus = new AsyncEventBus(2, AsyncEventBus.OverflowPolicy.COALESCE);
+
+    @After
+    public void tearDown() {
+        eventBus.shutdown();
+    }
+
+    /**
+     *  缓冲区满时暂存的移动事件在订阅者腾出槽位后写出，无需等待下一个事件
+     * */
+    @Test
+    public void stagedEventIsFlushedWhenSubscriberCatchesUp() throws InterruptedException {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch movedDelivered = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        AsyncEventBus.Subscription subscription = eventBus.addOnGameEventListener("test", event -> {
+            delivered.add(event.getType() + " dx=" + event.getDx());
+            if (event.getType() == GameEvent.Type.PIECE_MOVED) {
+                movedDelivered.countDown();
+            }
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // 订阅者停在第一个事件中，第二个事件后缓冲区已满
+        eventBus.onGameEvent(event(GameEvent.Type.PIECE_SPAWNED));
+        assertTrue(entered.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        eventBus.onGameEvent(event(GameEvent.Type.PIECE_ROTATED));
+        eventBus.onGameEvent(event(GameEvent.Type.PIECE_MOVED).setMove(1, 0));
+        eventBus.onGameEvent(event(GameEvent.Type.PIECE_MOVED).setMove(1, 0));
+        assertEquals(2, eventBus.getPublishedCounts());
+        assertEquals(1, eventBus.getCoalescedCounts());
+        // 暂存事件计入落后数
+        assertEquals(3, subscription.getLag());
+
+        // 此后不再写入事件
+        release.countDown();
+        assertTrue(movedDelivered.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(3, eventBus.getPublishedCounts());
+        assertEquals("[PIECE_SPAWNED dx=0, PIECE_ROTATED dx=0, PIECE_MOVED dx=2]", delivered.toString());
+    }
+
+    private static GameEvent event(GameEvent.Type type) {
+        return new GameEvent().reset(type, 0, Tile.T, Direction.NORTH, 3, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Tile;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 冲突判定的分配测试
+ * 以当前线程的已分配字节数计量，预热后反复调用 hasConflict 不应分配内存
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class GameBoardAllocationTest {
+
+    /**
+     *  预热及计量的循环次数（预热次数足以触发 JIT 编译）
+     * */
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 5;
+
+    /**
+     *  计量次数（计量本身偶有几十字节的波动，任一次为零即通过；每次调用分配时每次计量都至少多出数十万字节）
+     * */
+    private static final int ATTEMPTS = 5;
+
+    private static final Tile[] TILES = Tile.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     *  防止循环被优化掉
+     * */
+    private int conflicts;
+
+    @Test
+    public void hasConflictDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        GameBoard gameBoard = new GameBoard();
+        // 底部堆叠若干砖块，使判定覆盖有冲突与无冲突两种情况
+        gameBoard.lockTile(Tile.I, Direction.NORTH, 0, GameBoard.ROWS - 2);
+        gameBoard.lockTile(Tile.O, Direction.NORTH, 6, GameBoard.ROWS - 3);
+        gameBoard.lockTile(Tile.T, Direction.SOUTH, 3, GameBoard.ROWS - 4);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            conflicts += sweep(gameBoard);
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocated = -1;
+        for (int attempt = 0; attempt < ATTEMPTS && allocated != 0; attempt++) {
+            // 计量本身可能分配（如包装为数组），先测出其开销
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            long overhead = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+            before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURE_ROUNDS; i++) {
+                conflicts += sweep(gameBoard);
+            }
+            allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before - overhead;
+        }
+        assertEquals("bytes allocated by " + MEASURE_ROUNDS + " sweeps of hasConflict", 0, allocated);
+    }
+
+    /**
+     *  对所有砖块、方向及位置进行一次冲突判定
+     *
+     *  @return 冲突次数
+     * */
+    private static int sweep(GameBoard gameBoard) {
+        int counts = 0;
+        for (Tile tile : TILES) {
+            for (Direction direction : DIRECTIONS) {
+                for (int y = -2; y < GameBoard.ROWS; y++) {
+                    for (int x = -4; x <= GameBoard.COLUMNS; x++) {
+                        if (gameBoard.hasConflict(tile, direction, x, y)) {
+                            counts++;
+                        }
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     *  获取支持按线程统计分配字节数的 ThreadMXBean（不支持时跳过测试）
+     * */
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assume.assumeTrue(sunThreadMXBean.isThreadAllocatedMemorySupported());
+        sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return sunThreadMXBean;
+    }
+}
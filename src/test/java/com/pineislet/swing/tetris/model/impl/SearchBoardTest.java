@@ -0,0 +1,226 @@
+package com.pineislet.swing.tetris.model.impl;
+
+import com.pineislet.swing.tetris.model.Direction;
+import com.pineislet.swing.tetris.model.Placement;
+import com.pineislet.swing.tetris.model.TetrisModel;
+import com.pineislet.swing.tetris.model.Tile;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 搜索棋盘测试
+ * 检查 apply 的锁定、消行、计分、hold 及队列推进与 GameBoard 一致，嵌套 apply 后 undo 逐层原样还原
+ *
+ * Create on 2026/10/18
+ *
+ * @author Yasenia
+ */
+public class SearchBoardTest {
+
+    private static final int BOTTOM = GameBoard.ROWS - 1;
+
+    private static final int INITIAL_SCORE = 1000;
+    private static final int INITIAL_LINES = 7;
+
+    private final GameState state = new GameState();
+
+    /**
+     *  底部四行除第 9 列外全部占用，其上为一块 T（第 0~2 列及第 1 列），当前砖块为 I，后续为 T、O、Z、S、L
+     * */
+    @Before
+    public void setUp() {
+        GameBoard gameBoard = state.gameBoard;
+        gameBoard.clear();
+        for (int x = -1; x < 7; x += 2) {
+            gameBoard.lockTile(Tile.O, Direction.NORTH, x, BOTTOM - 2);
+            gameBoard.lockTile(Tile.O, Direction.NORTH, x, BOTTOM - 4);
+        }
+        gameBoard.lockTile(Tile.I, Direction.NORTH, 7, BOTTOM - 3);
+        gameBoard.lockTile(Tile.T, Direction.NORTH, 0, BOTTOM - 6);
+        state.tileQueue.clear();
+        for (Tile tile : new Tile[] {Tile.T, Tile.O, Tile.Z, Tile.S, Tile.L}) {
+            state.tileQueue.addLast(tile);
+        }
+        state.currentTile = Tile.I;
+        state.holdTile = null;
+        state.holdCounter = 0;
+        state.score = INITIAL_SCORE;
+        state.lines = INITIAL_LINES;
+    }
+
+    @Test
+    public void fixtureLeavesOnlyLastColumnOpenInBottomRows() {
+        for (int row = BOTTOM - 3; row <= BOTTOM; row++) {
+            assertEquals(0x1ff, state.gameBoard.getRowMask(row));
+        }
+        assertEquals(0x2, state.gameBoard.getRowMask(BOTTOM - 4));
+        assertEquals(0x7, state.gameBoard.getRowMask(BOTTOM - 5));
+    }
+
+    @Test
+    public void applyClearsFourLinesAndUndoRestores() {
+        SearchBoard searchBoard = load(1);
+        String loaded = describe(searchBoard);
+
+        int token = searchBoard.apply(Placement.of(Direction.NORTH, 8, false));
+        assertEquals(0, token);
+        // 上方的 T 下移四行，其余行为空
+        assertEquals(0x2, searchBoard.getRowMask(BOTTOM));
+        assertEquals(0x7, searchBoard.getRowMask(BOTTOM - 1));
+        for (int row = 0; row < BOTTOM - 1; row++) {
+            assertEquals("row " + row, 0, searchBoard.getRowMask(row));
+        }
+        assertEquals(INITIAL_LINES + 4, searchBoard.getLines());
+        assertEquals(INITIAL_SCORE + TetrisModelImpl.getLineScore(4), searchBoard.getScore());
+        assertEquals(Tile.T, searchBoard.getCurrentTile());
+        assertEquals(Tile.O, searchBoard.getFollowingTile(0));
+        assertEquals(1, searchBoard.getDepth());
+
+        searchBoard.undo(token);
+        assertEquals(loaded, describe(searchBoard));
+    }
+
+    @Test
+    public void nestedApplyWithHoldUndoesLayerByLayer() {
+        SearchBoard searchBoard = load(3);
+        String loaded = describe(searchBoard);
+
+        // hold 区为空：I 进入 hold 区，放置队首的 T，当前砖块变为 O
+        int first = searchBoard.apply(Placement.of(Direction.NORTH, 4, true));
+        assertNotEquals(SearchBoard.INVALID_TOKEN, first);
+        assertEquals(Tile.I, searchBoard.getHoldTile());
+        assertEquals(Tile.O, searchBoard.getCurrentTile());
+        assertEquals(Tile.Z, searchBoard.getFollowingTile(0));
+        assertTrue(searchBoard.canHold());
+        String afterFirst = describe(searchBoard);
+
+        // hold 区有砖块：O 与 I 交换，I 竖直落入第 9 列消除四行
+        int second = searchBoard.apply(Placement.of(Direction.NORTH, 8, true));
+        assertNotEquals(SearchBoard.INVALID_TOKEN, second);
+        assertEquals(Tile.O, searchBoard.getHoldTile());
+        assertEquals(Tile.Z, searchBoard.getCurrentTile());
+        assertEquals(INITIAL_LINES + 4, searchBoard.getLines());
+        String afterSecond = describe(searchBoard);
+
+        int third = searchBoard.apply(Placement.of(Direction.NORTH, 0, false));
+        assertNotEquals(SearchBoard.INVALID_TOKEN, third);
+        assertEquals(3, searchBoard.getDepth());
+        // 已达最大深度
+        assertEquals(SearchBoard.INVALID_TOKEN, searchBoard.apply(Placement.of(Direction.NORTH, 0, false)));
+
+        searchBoard.undo(third);
+        assertEquals(afterSecond, describe(searchBoard));
+        searchBoard.undo(second);
+        assertEquals(afterFirst, describe(searchBoard));
+        searchBoard.undo(first);
+        assertEquals(loaded, describe(searchBoard));
+
+        // 按外层标记撤销时内层一并撤销
+        first = searchBoard.apply(Placement.of(Direction.NORTH, 4, true));
+        searchBoard.apply(Placement.of(Direction.NORTH, 8, true));
+        searchBoard.apply(Placement.of(Direction.NORTH, 0, false));
+        searchBoard.undo(first);
+        assertEquals(loaded, describe(searchBoard));
+    }
+
+    @Test
+    public void holdIsRejectedWhenAlreadyUsed() {
+        state.holdTile = Tile.Z;
+        state.holdCounter = 1;
+        SearchBoard searchBoard = load(1);
+        String loaded = describe(searchBoard);
+
+        assertFalse(searchBoard.canHold());
+        assertEquals(SearchBoard.INVALID_TOKEN, searchBoard.apply(Placement.of(Direction.NORTH, 8, true)));
+        assertEquals(loaded, describe(searchBoard));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void undoRejectsUnknownToken() {
+        load(1).undo(0);
+    }
+
+    @Test
+    public void everyPlacementMatchesGameBoardAndUndoes() {
+        SearchBoard searchBoard = load(2);
+        String loaded = describe(searchBoard);
+        GameBoard expected = new GameBoard();
+        int placed = 0;
+        for (Direction direction : Direction.values()) {
+            for (int x = Placement.MIN_X; x <= Placement.MAX_X; x++) {
+                for (int i = 0; i < 2; i++) {
+                    Placement placement = Placement.of(direction, x, i == 1);
+                    Tile tile = placement.isHold() ? state.tileQueue.get(0) : state.currentTile;
+                    int y = searchBoard.getDropRow(tile, direction, x);
+                    int token = searchBoard.apply(placement);
+                    if (y < 0) {
+                        assertEquals(placement.toString(), SearchBoard.INVALID_TOKEN, token);
+                        continue;
+                    }
+                    placed++;
+                    expected.copyFrom(state.gameBoard);
+                    expected.lockTile(tile, direction, x, y);
+                    int lineCounts = expected.clearLines();
+                    for (int row = 0; row < GameBoard.ROWS; row++) {
+                        assertEquals(placement + " row " + row, expected.getRowMask(row), searchBoard.getRowMask(row));
+                    }
+                    assertEquals(placement.toString(), INITIAL_LINES + lineCounts, searchBoard.getLines());
+                    assertEquals(placement.toString(), INITIAL_SCORE + TetrisModelImpl.getLineScore(lineCounts),
+                            searchBoard.getScore());
+
+                    // 再放置一块后按外层标记撤销
+                    searchBoard.apply(Placement.of(Direction.NORTH, TetrisModelImpl.SPAWN_X, false));
+                    searchBoard.undo(token);
+                    assertEquals(placement.toString(), loaded, describe(searchBoard));
+                }
+            }
+        }
+        assertTrue(placed > 0);
+    }
+
+    @Test
+    public void exhaustedQueueLeavesNoCurrentTile() {
+        state.tileQueue.clear();
+        SearchBoard searchBoard = load(1);
+
+        assertFalse(searchBoard.canHold());
+        int token = searchBoard.apply(Placement.of(Direction.NORTH, 8, false));
+        assertNull(searchBoard.getCurrentTile());
+        assertEquals(SearchBoard.INVALID_TOKEN, searchBoard.apply(Placement.of(Direction.NORTH, 0, false)));
+        searchBoard.undo(token);
+        assertEquals(Tile.I, searchBoard.getCurrentTile());
+    }
+
+    private SearchBoard load(int maxDepth) {
+        SearchBoard searchBoard = new SearchBoard(maxDepth);
+        searchBoard.load(state);
+        return searchBoard;
+    }
+
+    /**
+     *  搜索棋盘全部可观察状态（行掩码、当前砖块、hold区、队列位置、得分、深度）
+     * */
+    private static String describe(SearchBoard searchBoard) {
+        StringBuilder builder = new StringBuilder();
+        for (int row = 0; row < GameBoard.ROWS; row++) {
+            builder.append(Integer.toBinaryString(searchBoard.getRowMask(row))).append('/');
+        }
+        builder.append(" current=").append(searchBoard.getCurrentTile())
+                .append(" hold=").append(searchBoard.getHoldTile())
+                .append(" canHold=").append(searchBoard.canHold())
+                .append(" following=");
+        for (int i = 0; i < TetrisModel.FOLLOW_TILE_COUNTS; i++) {
+            builder.append(searchBoard.getFollowingTile(i)).append(',');
+        }
+        return builder.append(" score=").append(searchBoard.getScore())
+                .append(" lines=").append(searchBoard.getLines())
+                .append(" depth=").append(searchBoard.getDepth())
+                .toString();
+    }
+}